@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2022,2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data;
+
+import jakarta.data.exceptions.DataException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <p>Outcome of a repository method that inserts, updates, or saves multiple
+ * entities, reported separately for each entity. A repository {@code Insert},
+ * {@code Update}, or {@code Save} method with a parameter of type
+ * {@code Iterable<E>}, {@code List<E>}, or {@code E[]} can return
+ * {@code BatchResult<E>}, in which case a failure to write an individual entity,
+ * such as an entity that already exists, does not cause the method to raise an
+ * exception. Instead, the failure is reported for the position of the entity in
+ * the argument, and the remaining entities are still written, so that the
+ * Jakarta Data provider can write the entities as a single batch.
+ * For example,</p>
+ *
+ * <pre>
+ * &#64;Insert
+ * {@code BatchResult<Product>} addAll({@code List<Product>} products);
+ *
+ * ...
+ * {@code BatchResult<Product>} result = products.addAll(received);
+ * if (!result.isSuccessful()) {
+ *     retry(result.failed(received));
+ * }
+ * </pre>
+ *
+ * <p>Failures that prevent the batch as a whole from being written, such as the
+ * loss of the connection to the database, are still raised by the repository method.</p>
+ *
+ * @param outcomes the outcome for each entity, in the order of the entities in the argument.
+ * @param <T>      entity type.
+ */
+public record BatchResult<T>(List<Outcome<T>> outcomes) {
+
+    /**
+     * <p>Outcome of writing a single entity. Exactly one of the entity and the
+     * failure is present.</p>
+     *
+     * @param entity  the entity as written to the database, including any generated
+     *                values and updated version, if the write succeeded.
+     *                Otherwise, {@code null}.
+     * @param failure the exception that describes why the write failed, if the
+     *                write failed. Otherwise, {@code null}.
+     * @param <T>     entity type.
+     */
+    public record Outcome<T>(T entity, DataException failure) {
+
+        /**
+         * Creates an outcome.
+         *
+         * @param entity  the entity as written to the database, or {@code null} if the write failed.
+         * @param failure the exception that describes why the write failed, or {@code null} if it succeeded.
+         * @throws IllegalArgumentException if neither or both of the entity and the failure are present.
+         */
+        public Outcome {
+            if ((entity == null) == (failure == null)) {
+                throw new IllegalArgumentException("Exactly one of entity and failure is required");
+            }
+        }
+
+        /**
+         * Creates the outcome of a write that succeeded.
+         *
+         * @param entity the entity as written to the database.
+         * @param <T>    entity type.
+         * @return the outcome.
+         */
+        public static <T> Outcome<T> success(T entity) {
+            return new Outcome<>(Objects.requireNonNull(entity, "entity is required"), null);
+        }
+
+        /**
+         * Creates the outcome of a write that failed.
+         *
+         * @param failure the exception that describes why the write failed.
+         * @param <T>     entity type.
+         * @return the outcome.
+         */
+        public static <T> Outcome<T> failure(DataException failure) {
+            return new Outcome<>(null, Objects.requireNonNull(failure, "failure is required"));
+        }
+
+        /**
+         * Returns whether the entity was written to the database.
+         *
+         * @return {@code true} if the write succeeded, {@code false} if it failed.
+         */
+        public boolean succeeded() {
+            return failure == null;
+        }
+    }
+
+    /**
+     * Creates a batch result.
+     *
+     * @param outcomes the outcome for each entity, in the order of the entities in the argument.
+     */
+    public BatchResult {
+        outcomes = List.copyOf(outcomes);
+    }
+
+    /**
+     * Returns whether every entity was written to the database.
+     *
+     * @return {@code true} if no writes failed.
+     */
+    public boolean isSuccessful() {
+        for (Outcome<T> outcome : outcomes) {
+            if (!outcome.succeeded()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of entities that were supplied to the repository method.
+     *
+     * @return the number of outcomes.
+     */
+    public int size() {
+        return outcomes.size();
+    }
+
+    /**
+     * Returns the entity that was written at the given position, if the write succeeded.
+     *
+     * @param index position of the entity in the argument, starting at 0.
+     * @return the entity as written to the database, or {@link Optional#empty()} if the write failed.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public Optional<T> entity(int index) {
+        return Optional.ofNullable(outcomes.get(index).entity());
+    }
+
+    /**
+     * Returns the exception that describes why the write failed at the given position.
+     *
+     * @param index position of the entity in the argument, starting at 0.
+     * @return the failure, or {@link Optional#empty()} if the write succeeded.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public Optional<DataException> failure(int index) {
+        return Optional.ofNullable(outcomes.get(index).failure());
+    }
+
+    /**
+     * Returns the entities that were written to the database,
+     * in the order of the entities in the argument.
+     *
+     * @return the entities as written to the database.
+     */
+    public List<T> succeeded() {
+        List<T> entities = new ArrayList<>(outcomes.size());
+        for (Outcome<T> outcome : outcomes) {
+            if (outcome.succeeded()) {
+                entities.add(outcome.entity());
+            }
+        }
+        return entities;
+    }
+
+    /**
+     * Returns the positions in the argument of the entities that were not written.
+     *
+     * @return the indexes of failed writes, in ascending order.
+     */
+    public List<Integer> failedIndexes() {
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < outcomes.size(); i++) {
+            if (!outcomes.get(i).succeeded()) {
+                indexes.add(i);
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Selects the elements of the argument that was supplied to the repository
+     * method for which the write failed, such as to retry only those elements.
+     *
+     * @param submitted the entities that were supplied to the repository method.
+     * @param <E>       type of the supplied entities.
+     * @return the supplied entities for which the write failed, in their original order.
+     * @throws IllegalArgumentException if the number of supplied entities differs from the number of outcomes.
+     */
+    public <E> List<E> failed(List<E> submitted) {
+        if (submitted.size() != outcomes.size()) {
+            throw new IllegalArgumentException("Supplied " + submitted.size() + " entities for " +
+                    outcomes.size() + " outcomes");
+        }
+        List<E> failed = new ArrayList<>();
+        for (int i = 0; i < outcomes.size(); i++) {
+            if (!outcomes.get(i).succeeded()) {
+                failed.add(submitted.get(i));
+            }
+        }
+        return failed;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel.impl;
+
+import jakarta.data.Sort;
+import jakarta.data.metamodel.TextAttribute;
+
+import java.util.Objects;
+
+/**
+ * Implementation of {@link jakarta.data.metamodel.TextAttribute} that creates
+ * its {@link Sort} instances once, when the attribute is created, and returns the
+ * same instances on every call. This may be used to simplify implementation of
+ * the static metamodel where sort criteria are requested for every query.
+ *
+ * @param <T> entity class of the static metamodel.
+ */
+public final class PrecomputedTextAttribute<T> implements TextAttribute<T> {
+    private final String name;
+    private final Sort<T> asc;
+    private final Sort<T> desc;
+    private final Sort<T> ascIgnoreCase;
+    private final Sort<T> descIgnoreCase;
+
+    /**
+     * Creates the attribute and its sort criteria.
+     *
+     * @param name the name of the attribute.
+     * @throws NullPointerException when the name is null.
+     */
+    public PrecomputedTextAttribute(String name) {
+        this.name = Objects.requireNonNull(name, "name is required");
+        this.asc = Sort.asc(name);
+        this.desc = Sort.desc(name);
+        this.ascIgnoreCase = Sort.ascIgnoreCase(name);
+        this.descIgnoreCase = Sort.descIgnoreCase(name);
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public Sort<T> asc() {
+        return asc;
+    }
+
+    @Override
+    public Sort<T> desc() {
+        return desc;
+    }
+
+    @Override
+    public Sort<T> ascIgnoreCase() {
+        return ascIgnoreCase;
+    }
+
+    @Override
+    public Sort<T> descIgnoreCase() {
+        return descIgnoreCase;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o
+                || o instanceof PrecomputedTextAttribute && name.equals(((PrecomputedTextAttribute<?>) o).name);
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "PrecomputedTextAttribute[name=" + name + "]";
+    }
+}
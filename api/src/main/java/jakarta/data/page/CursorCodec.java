@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * <p>Built-in encoding of keyset cursors into opaque, URL-safe tokens.</p>
+ *
+ * <p>The binary form is a version byte, followed by the number of keyset
+ * values as a variable-length integer, followed by each value as a type tag
+ * and a type-specific payload. Integers use zig-zag variable-length
+ * encoding, strings use UTF-8 prefixed with their length, and enumerations
+ * are written by name. The binary form is Base64url-encoded without
+ * padding.</p>
+ */
+final class CursorCodec {
+    /**
+     * Version of the binary form, which is the first byte of every token.
+     */
+    static final byte VERSION = 1;
+
+    private static final byte NULL = 0;
+    private static final byte INT = 1;
+    private static final byte LONG = 2;
+    private static final byte STRING = 3;
+    private static final byte UUID_VALUE = 4;
+    private static final byte INSTANT = 5;
+    private static final byte BIG_DECIMAL = 6;
+    private static final byte ENUM = 7;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private byte[] buffer;
+    private int position;
+
+    private CursorCodec(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Encodes the keyset values of a cursor.
+     *
+     * @param cursor keyset cursor.
+     * @return URL-safe token.
+     * @throws UnsupportedOperationException if a keyset value has a type that cannot be encoded.
+     */
+    static String encode(PageRequest.Cursor cursor) {
+        int size = cursor.size();
+        CursorCodec out = new CursorCodec(new byte[2 + size * 10]);
+        out.writeByte(VERSION);
+        out.writeVarLong(size);
+        for (int i = 0; i < size; i++) {
+            out.writeValue(cursor.getKeysetElement(i), i);
+        }
+        return new String(ENCODER.encode(Arrays.copyOf(out.buffer, out.position)), StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Decodes a token that was produced by {@link #encode(PageRequest.Cursor)}.
+     *
+     * @param token URL-safe token.
+     * @param types expected types of the keyset values, or none to skip type checking.
+     * @return keyset cursor.
+     * @throws IllegalArgumentException if the token is malformed or does not match the expected types.
+     */
+    static PageRequest.Cursor decode(String token, Class<?>... types) {
+        if (token == null) {
+            throw new NullPointerException("token");
+        }
+        CursorCodec in;
+        try {
+            in = new CursorCodec(DECODER.decode(token));
+        } catch (IllegalArgumentException x) {
+            throw new IllegalArgumentException("Cursor token is not valid Base64url: " + token, x);
+        }
+        try {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported cursor token version " + version);
+            }
+            long size = in.readVarLong();
+            if (size < 1 || size > in.buffer.length) {
+                throw new IllegalArgumentException("Cursor token has an invalid number of keyset values: " + size);
+            }
+            if (types.length > 0 && types.length != size) {
+                throw new IllegalArgumentException("Cursor token has " + size + " keyset values, but " +
+                        types.length + " types were expected.");
+            }
+            Object[] keyset = new Object[(int) size];
+            for (int i = 0; i < keyset.length; i++) {
+                keyset[i] = in.readValue(types.length == 0 ? null : types[i], i);
+            }
+            if (in.position != in.buffer.length) {
+                throw new IllegalArgumentException("Cursor token has unexpected trailing data.");
+            }
+            return new PageRequestCursor(keyset);
+        } catch (ArrayIndexOutOfBoundsException x) {
+            throw new IllegalArgumentException("Cursor token is truncated.", x);
+        }
+    }
+
+    private void writeValue(Object value, int index) {
+        if (value == null) {
+            writeByte(NULL);
+        } else if (value instanceof Long) {
+            writeByte(LONG);
+            writeVarLong(zigZag((Long) value));
+        } else if (value instanceof Integer) {
+            writeByte(INT);
+            writeVarLong(zigZag((Integer) value));
+        } else if (value instanceof String) {
+            writeByte(STRING);
+            writeBytes(((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof UUID) {
+            UUID uuid = (UUID) value;
+            writeByte(UUID_VALUE);
+            writeFixedLong(uuid.getMostSignificantBits());
+            writeFixedLong(uuid.getLeastSignificantBits());
+        } else if (value instanceof Instant) {
+            Instant instant = (Instant) value;
+            writeByte(INSTANT);
+            writeVarLong(zigZag(instant.getEpochSecond()));
+            writeVarLong(instant.getNano());
+        } else if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            writeByte(BIG_DECIMAL);
+            writeVarLong(zigZag(decimal.scale()));
+            writeBytes(decimal.unscaledValue().toByteArray());
+        } else if (value instanceof Enum) {
+            writeByte(ENUM);
+            writeBytes(((Enum<?>) value).name().getBytes(StandardCharsets.UTF_8));
+        } else {
+            throw new UnsupportedOperationException("The keyset value at position " + index + " has type " +
+                    value.getClass().getName() + ", which cannot be encoded into a cursor token.");
+        }
+    }
+
+    private Object readValue(Class<?> type, int index) {
+        byte tag = readByte();
+        Object value;
+        switch (tag) {
+            case NULL:
+                return null;
+            case INT:
+                value = readInt(index);
+                break;
+            case LONG:
+                value = unZigZag(readVarLong());
+                break;
+            case STRING:
+                value = new String(readBytes(), StandardCharsets.UTF_8);
+                break;
+            case UUID_VALUE:
+                value = new UUID(readFixedLong(), readFixedLong());
+                break;
+            case INSTANT:
+                long seconds = unZigZag(readVarLong());
+                long nanos = readVarLong();
+                try {
+                    value = Instant.ofEpochSecond(seconds, nanos);
+                } catch (DateTimeException | ArithmeticException x) {
+                    throw new IllegalArgumentException("The keyset value at position " + index +
+                            " is not a valid Instant.", x);
+                }
+                break;
+            case BIG_DECIMAL:
+                int scale = readInt(index);
+                value = new BigDecimal(new BigInteger(readBytes()), scale);
+                break;
+            case ENUM:
+                String name = new String(readBytes(), StandardCharsets.UTF_8);
+                if (type == null || !type.isEnum()) {
+                    throw new IllegalArgumentException("The keyset value at position " + index +
+                            " is an enumeration constant, which requires an enum type in order to be decoded.");
+                }
+                value = enumConstant(type, name);
+                break;
+            default:
+                throw new IllegalArgumentException("Cursor token has unknown type tag " + tag + " at position " + index);
+        }
+        if (type != null && !wrap(type).isInstance(value)) {
+            throw new IllegalArgumentException("The keyset value at position " + index + " has type " +
+                    value.getClass().getName() + ", but " + type.getName() + " was expected.");
+        }
+        return value;
+    }
+
+    private int readInt(int index) {
+        long value = unZigZag(readVarLong());
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The keyset value at position " + index +
+                    " is out of range for an int: " + value);
+        }
+        return (int) value;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object enumConstant(Class<?> type, String name) {
+        return Enum.valueOf((Class<? extends Enum>) type, name);
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        if (type == long.class) {
+            return Long.class;
+        } else if (type == int.class) {
+            return Integer.class;
+        } else {
+            return type;
+        }
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+
+    private void writeByte(byte value) {
+        ensureCapacity(1);
+        buffer[position++] = value;
+    }
+
+    private void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeFixedLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void writeBytes(byte[] bytes) {
+        writeVarLong(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private byte readByte() {
+        return buffer[position++];
+    }
+
+    private long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer[position++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Cursor token has a malformed variable-length integer.");
+    }
+
+    private long readFixedLong() {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (buffer[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    private byte[] readBytes() {
+        long length = readVarLong();
+        if (length < 0 || length > buffer.length - position) {
+            throw new IllegalArgumentException("Cursor token is truncated.");
+        }
+        byte[] bytes = Arrays.copyOfRange(buffer, position, position + (int) length);
+        position += (int) length;
+        return bytes;
+    }
+}
@@ -20,6 +20,10 @@ package jakarta.data.page;
 import jakarta.data.repository.OrderBy;
 import jakarta.data.Sort;
 import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * <p>A slice of data with the ability to create a cursor from the
@@ -199,4 +203,57 @@ public interface CursoredPage<T> extends Page<T> {
      *         of {@link #hasPrevious()} before invoking this method.
      */
     PageRequest<T> previousPageRequest();
-}
\ No newline at end of file
+
+    /**
+     * <p>Returns a lazy, sequential stream of the results of the given page
+     * followed by the results of all subsequent pages, where each subsequent
+     * page is obtained by supplying the {@link #nextPageRequest()} of the
+     * page before it to the given fetcher. Typically the fetcher is a
+     * repository method with return type {@code CursoredPage}. For
+     * example, with a {@code ManagedExecutorService} so that the repository
+     * is invoked with the context of the application,</p>
+     *
+     * <pre>
+     * {@code CursoredPage<Employee>} page1 = employees.findByHoursWorkedGreaterThan(1500, PageRequest.of(Employee.class).size(100));
+     * try ({@code Stream<Employee>} all = CursoredPage.streamAll(page1,
+     *         req -&gt; employees.findByHoursWorkedGreaterThan(1500, req), 2, managedExecutor)) {
+     *     all.forEach(exporter::write);
+     * }
+     * </pre>
+     *
+     * <p>While the results of a page are being consumed, up to
+     * {@code prefetchPages} subsequent pages are requested in the background,
+     * so that the latency of fetching overlaps with processing, while the
+     * number of pages held in memory remains bounded. Because each page
+     * request is relative to the page before it, pages are always requested
+     * one at a time, in order. With a value of {@code 0}, each page is
+     * requested by the thread that consumes the stream when it is needed.
+     * No pages are requested until the first result is consumed.</p>
+     *
+     * <p>Pages are requested with the given executor. In a Jakarta EE
+     * environment, use an executor that propagates the context that the
+     * fetcher requires, such as a {@code ManagedExecutorService}, or
+     * {@code Runnable::run} to request each page on the thread that
+     * consumes the stream.</p>
+     *
+     * <p>An exception that is raised by the fetcher is raised by the stream
+     * operation that requires the page. Close the stream if it is not
+     * consumed to the end, so that further pages are not requested.</p>
+     *
+     * @param <T>           the type of elements in the pages.
+     * @param firstPage     the first page of results.
+     * @param fetcher       function that obtains the page for a page request.
+     * @param prefetchPages maximum number of pages to request ahead of the
+     *                      page that is being consumed.
+     * @param executor      executor that runs the fetcher for subsequent pages.
+     * @return a stream of the results of all pages, starting with the given page.
+     * @throws IllegalArgumentException if {@code prefetchPages} is negative.
+     */
+    static <T> Stream<T> streamAll(CursoredPage<T> firstPage,
+                                   Function<PageRequest<T>, CursoredPage<T>> fetcher,
+                                   int prefetchPages,
+                                   Executor executor) {
+        CursoredPageSpliterator<T> spliterator = new CursoredPageSpliterator<>(firstPage, fetcher, prefetchPages, executor);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+}
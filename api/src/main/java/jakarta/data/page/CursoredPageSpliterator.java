@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Spliterator over the results of a {@link CursoredPage} and all pages
+ * that follow it, which requests up to a fixed number of pages ahead of
+ * the page that is being consumed.
+ */
+class CursoredPageSpliterator<T> implements Spliterator<T> {
+    private final Function<PageRequest<T>, CursoredPage<T>> fetcher;
+    private final Executor executor;
+    private final int prefetchPages;
+
+    /**
+     * Pages that are requested, in order, but not yet consumed.
+     * A page that completes as null indicates that there are no more pages.
+     */
+    private final ArrayDeque<CompletableFuture<CursoredPage<T>>> pending;
+
+    private CursoredPage<T> currentPage;
+    private Iterator<T> current;
+    private boolean started;
+    private boolean closed;
+
+    CursoredPageSpliterator(CursoredPage<T> firstPage,
+                            Function<PageRequest<T>, CursoredPage<T>> fetcher,
+                            int prefetchPages,
+                            Executor executor) {
+        if (prefetchPages < 0) {
+            throw new IllegalArgumentException("prefetchPages: " + prefetchPages);
+        }
+        if (firstPage == null || fetcher == null || executor == null) {
+            throw new NullPointerException(firstPage == null ? "firstPage" : fetcher == null ? "fetcher" : "executor");
+        }
+        this.fetcher = fetcher;
+        this.executor = executor;
+        this.prefetchPages = prefetchPages;
+        this.pending = new ArrayDeque<>(Math.max(1, prefetchPages));
+        this.currentPage = firstPage;
+        this.current = firstPage.iterator();
+    }
+
+    /**
+     * Requests the first pages that follow the first page. This is done when
+     * the first result is requested, rather than when the stream is created,
+     * so that a stream that is closed without being consumed runs no queries.
+     */
+    private void start() {
+        started = true;
+        CompletableFuture<CursoredPage<T>> previous = CompletableFuture.completedFuture(currentPage);
+        for (int i = 0; i < prefetchPages; i++) {
+            previous = fetchAfter(previous);
+            pending.add(previous);
+        }
+    }
+
+    private CompletableFuture<CursoredPage<T>> fetchAfter(CompletableFuture<CursoredPage<T>> previous) {
+        return previous.thenCompose(page -> page == null || !page.hasNext()
+                ? CompletableFuture.completedFuture(null)
+                : CompletableFuture.supplyAsync(() -> fetcher.apply(page.nextPageRequest()), executor));
+    }
+
+    /**
+     * Stops requesting further pages. Requests that are already running
+     * are allowed to complete, but their results are discarded.
+     */
+    void close() {
+        closed = true;
+        while (!pending.isEmpty()) {
+            pending.remove().cancel(false);
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (!started && !closed) {
+            start();
+        }
+        while (!current.hasNext()) {
+            CursoredPage<T> next = closed ? null : nextPage();
+            if (next == null) {
+                close();
+                return false;
+            }
+            currentPage = next;
+            current = next.iterator();
+        }
+        action.accept(current.next());
+        return true;
+    }
+
+    private CursoredPage<T> nextPage() {
+        if (prefetchPages == 0) {
+            return currentPage.hasNext() ? fetcher.apply(currentPage.nextPageRequest()) : null;
+        }
+
+        CursoredPage<T> next;
+        try {
+            next = pending.remove().join();
+        } catch (CancellationException x) {
+            return null;
+        } catch (CompletionException x) {
+            close();
+            Throwable cause = x.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw x;
+            }
+        }
+
+        if (next != null) {
+            pending.add(fetchAfter(pending.isEmpty() ? CompletableFuture.completedFuture(next) : pending.getLast()));
+        }
+        return next;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED;
+    }
+}
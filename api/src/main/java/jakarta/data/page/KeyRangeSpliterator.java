@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import jakarta.data.Sort;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Spliterator over the entities of a table or collection, which splits by
+ * ranges of a numeric primary key rather than by the results of a single query.
+ * Each range is halved when split, until ranges reach the minimum range size,
+ * and is retrieved with its own range query upon first traversal. Ranges are
+ * encountered in the direction of the {@link Sort} on the Id attribute, so that
+ * a sequential stream produces the same order as a single query. The estimated
+ * size is the number of keys in the remaining range, which is exact only when
+ * keys are dense.
+ */
+final class KeyRangeSpliterator<T> implements Spliterator<T> {
+
+    private static final int CHARACTERISTICS = ORDERED | NONNULL;
+
+    private final BiFunction<Long, Long, Stream<T>> query;
+    private final boolean ascending;
+    private final long minRangeSize;
+    private final Set<Stream<T>> open;
+
+    private long minKey;
+    private long maxKey;
+    private Stream<T> results;
+    private Iterator<T> iterator;
+
+    private KeyRangeSpliterator(BiFunction<Long, Long, Stream<T>> query, boolean ascending, long minRangeSize,
+                                Set<Stream<T>> open,
+                                long minKey, long maxKey) {
+        this.query = query;
+        this.ascending = ascending;
+        this.minRangeSize = minRangeSize;
+        this.open = open;
+        this.minKey = minKey;
+        this.maxKey = maxKey;
+    }
+
+    /**
+     * Obtains a sequential stream over the given range of Id values.
+     * See {@link Page#streamKeyRanges(Sort, long, long, long, BiFunction)}.
+     */
+    static <T> Stream<T> stream(Sort<? super T> idSort, long minKey, long maxKey, long minRangeSize,
+                                BiFunction<Long, Long, Stream<T>> query) {
+        Objects.requireNonNull(idSort, "idSort is required");
+        Objects.requireNonNull(query, "query is required");
+        if (minKey > maxKey) {
+            throw new IllegalArgumentException("minKey " + minKey + " exceeds maxKey " + maxKey);
+        }
+        if (minRangeSize < 1) {
+            throw new IllegalArgumentException("minRangeSize: " + minRangeSize);
+        }
+
+        Set<Stream<T>> open = ConcurrentHashMap.newKeySet();
+        KeyRangeSpliterator<T> spliterator =
+                new KeyRangeSpliterator<>(query, idSort.isAscending(), minRangeSize, open, minKey, maxKey);
+        return StreamSupport.stream(spliterator, false).onClose(() -> open.forEach(Stream::close));
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        Iterator<T> remaining = iterator();
+        if (remaining.hasNext()) {
+            action.accept(remaining.next());
+            return true;
+        }
+        close();
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        iterator().forEachRemaining(action);
+        close();
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (iterator != null || estimateSize() / 2 < minRangeSize) {
+            return null;
+        }
+        // floor of the average, without overflow
+        long mid = (minKey & maxKey) + ((minKey ^ maxKey) >> 1);
+        KeyRangeSpliterator<T> prefix;
+        if (ascending) {
+            prefix = new KeyRangeSpliterator<>(query, true, minRangeSize, open, minKey, mid);
+            minKey = mid + 1;
+        } else {
+            prefix = new KeyRangeSpliterator<>(query, false, minRangeSize, open, mid + 1, maxKey);
+            maxKey = mid;
+        }
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = maxKey - minKey + 1;
+        return size > 0 ? size : Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    /**
+     * Runs the range query upon first traversal, after which the range is no longer split.
+     */
+    private Iterator<T> iterator() {
+        if (iterator == null) {
+            results = query.apply(minKey, maxKey);
+            open.add(results);
+            iterator = results.iterator();
+        }
+        return iterator;
+    }
+
+    private void close() {
+        if (results != null) {
+            open.remove(results);
+            results.close();
+            results = null;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import java.util.List;
+
+/**
+ * Built-in implementation of Cursor for keyset pagination on one or two
+ * {@code long} keys, which stores the keys without boxing them.
+ */
+class LongCursor implements PageRequest.Cursor {
+    /**
+     * First keyset value.
+     */
+    private final long key1;
+
+    /**
+     * Second keyset value, which is only meaningful if the size is 2.
+     */
+    private final long key2;
+
+    /**
+     * Number of keyset values: 1 or 2.
+     */
+    private final int size;
+
+    /**
+     * Constructs a keyset cursor with a single value.
+     *
+     * @param key1 keyset value.
+     */
+    LongCursor(long key1) {
+        this.key1 = key1;
+        this.key2 = 0;
+        this.size = 1;
+    }
+
+    /**
+     * Constructs a keyset cursor with two values.
+     *
+     * @param key1 first keyset value.
+     * @param key2 second keyset value.
+     */
+    LongCursor(long key1, long key2) {
+        this.key1 = key1;
+        this.key2 = key2;
+        this.size = 2;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof LongCursor) {
+            LongCursor c = (LongCursor) o;
+            return size == c.size && key1 == c.key1 && key2 == c.key2;
+        }
+        return PageRequestCursor.keysetEquals(this, o);
+    }
+
+    @Override
+    public Object getKeysetElement(int index) {
+        return getLong(index);
+    }
+
+    @Override
+    public long getLong(int index) {
+        if (index == 0) {
+            return key1;
+        } else if (index == 1 && size == 2) {
+            return key2;
+        } else {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+
+    @Override
+    public int getInt(int index) {
+        getLong(index);
+        throw new ClassCastException("The keyset value at position " + index + " is a long, not an int.");
+    }
+
+    /**
+     * Computes the same hash code as {@link java.util.Arrays#hashCode(Object[])}
+     * over the boxed keyset values, but without boxing them.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 31 + Long.hashCode(key1);
+        return size == 1 ? hash : 31 * hash + Long.hashCode(key2);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public List<?> elements() {
+        return size == 1 ? List.of(key1) : List.of(key1, key2);
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(27).append("Cursor@").append(Integer.toHexString(hashCode()))
+                        .append(" with ").append(size).append(" keys")
+                        .toString();
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Spliterator over the results of an offset-based {@link Page} and all
+ * pages that follow it, up to the total number of pages that is reported
+ * by the first page. Subsequent pages are requested concurrently, up to a
+ * maximum number at a time, and are consumed in order of page number.
+ * No subsequent pages are requested until the first result is consumed.
+ * The size is computed from the total number of elements of the first page.
+ */
+class OffsetPageSpliterator<T> implements Spliterator<T> {
+    private final Function<PageRequest<T>, Page<T>> fetcher;
+    private final Executor executor;
+    private final BiConsumer<PageRequest<T>, Duration> latencyListener;
+    private final PageRequest<T> firstPageRequest;
+    private final long lastPage;
+    private final int maxConcurrency;
+
+    /**
+     * Pages that are requested, in order of page number, but not yet consumed.
+     */
+    private final ArrayDeque<CompletableFuture<Page<T>>> pending;
+
+    /**
+     * Page number of the next page to request.
+     */
+    private long nextPage;
+
+    /**
+     * Number of results that are not yet consumed, according to the total
+     * number of elements of the first page.
+     */
+    private long remaining;
+
+    private Iterator<T> current;
+    private boolean started;
+    private boolean closed;
+
+    OffsetPageSpliterator(Page<T> firstPage,
+                          Function<PageRequest<T>, Page<T>> fetcher,
+                          Executor executor,
+                          int maxConcurrency,
+                          BiConsumer<PageRequest<T>, Duration> latencyListener) {
+        if (firstPage == null || fetcher == null || executor == null) {
+            throw new NullPointerException(firstPage == null ? "firstPage" : fetcher == null ? "fetcher" : "executor");
+        }
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency: " + maxConcurrency);
+        }
+        firstPageRequest = firstPage.pageRequest();
+        if (firstPageRequest.mode() != PageRequest.Mode.OFFSET) {
+            throw new IllegalArgumentException("The first page must be requested with offset pagination, not " +
+                    firstPageRequest.mode());
+        }
+        if (!firstPage.totalElementsIsExact()) {
+            throw new IllegalArgumentException("The first page must have exact totals. Request it with a PageRequest " +
+                    "for which the totalMode() is EXACT or INLINE.");
+        }
+        this.fetcher = fetcher;
+        this.executor = executor;
+        this.latencyListener = latencyListener;
+        this.lastPage = firstPage.totalPages();
+        this.maxConcurrency = maxConcurrency;
+        this.nextPage = firstPageRequest.page() + 1;
+        this.remaining = Math.max(0, firstPage.totalElements() - (firstPageRequest.page() - 1) * firstPageRequest.size());
+        this.pending = new ArrayDeque<>(maxConcurrency);
+        this.current = firstPage.iterator();
+    }
+
+    /**
+     * Requests the first pages that follow the first page. This is done when
+     * the first result is requested, rather than when the stream is created,
+     * so that a stream that is closed without being consumed runs no queries.
+     */
+    private void start() {
+        started = true;
+        while (pending.size() < maxConcurrency && nextPage <= lastPage) {
+            pending.add(fetch(nextPage++));
+        }
+    }
+
+    private CompletableFuture<Page<T>> fetch(long pageNumber) {
+        PageRequest<T> pageRequest = firstPageRequest.page(pageNumber);
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                return fetcher.apply(pageRequest);
+            } finally {
+                if (latencyListener != null) {
+                    latencyListener.accept(pageRequest, Duration.ofNanos(System.nanoTime() - start));
+                }
+            }
+        }, executor);
+    }
+
+    /**
+     * Stops requesting further pages. Requests that are already running
+     * are allowed to complete, but their results are discarded.
+     */
+    void close() {
+        closed = true;
+        while (!pending.isEmpty()) {
+            pending.remove().cancel(false);
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (!started && !closed) {
+            start();
+        }
+        while (!current.hasNext()) {
+            if (closed || pending.isEmpty()) {
+                return false;
+            }
+
+            Page<T> next;
+            try {
+                next = pending.remove().join();
+            } catch (CancellationException x) {
+                return false;
+            } catch (CompletionException x) {
+                close();
+                Throwable cause = x.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                } else {
+                    throw x;
+                }
+            }
+
+            if (nextPage <= lastPage) {
+                pending.add(fetch(nextPage++));
+            }
+            current = next.iterator();
+        }
+        if (remaining > 0) {
+            remaining--;
+        }
+        action.accept(current.next());
+        return true;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED;
+    }
+}
@@ -17,9 +17,16 @@
  */
 package jakarta.data.page;
 
+import jakarta.data.Sort;
+import jakarta.data.repository.BasicRepository;
 import jakarta.data.repository.Query;
+import java.time.Duration;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -73,6 +80,17 @@ public interface Page<T> extends Iterable<T> {
         return StreamSupport.stream(spliterator(), false);
     }
 
+    /**
+     * Returns a possibly parallel stream of results. The results are
+     * encountered in the order of the sort criteria, if any were specified,
+     * unless the stream is made unordered.
+     *
+     * @return a possibly parallel stream of results.
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     /**
      * Returns the number of elements on this {@code Page}, which must be no larger
      * than the maximum {@link PageRequest#size() size} of the page request.
@@ -206,4 +224,178 @@ public interface Page<T> extends Iterable<T> {
      * @throws IllegalStateException if the total was not retrieved from the database.
      */
     long totalPages();
+
+    /**
+     * <p>Returns {@code true} if the {@linkplain #totalElements() total number
+     * of elements} is an exact count. This is the case if the
+     * {@linkplain PageRequest#totalMode() total mode} of the
+     * {@link #pageRequest()} is {@link PageRequest.TotalMode#EXACT EXACT} or
+     * {@link PageRequest.TotalMode#INLINE INLINE}, or if it is {@link PageRequest.TotalMode#CAPPED CAPPED} and the
+     * page {@linkplain #isCapped() is not capped}.</p>
+     *
+     * <p>When the total is not exact, the {@link #totalPages()} is also
+     * approximate.</p>
+     *
+     * @return {@code true} if totals are available and exact.
+     */
+    default boolean totalElementsIsExact() {
+        if (!hasTotals()) {
+            return false;
+        }
+        switch (pageRequest().totalMode()) {
+            case EXACT:
+            case INLINE:
+                return true;
+            case CAPPED:
+                return !isCapped();
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns {@code true} if the {@linkplain PageRequest#totalMode() total mode}
+     * of the {@link #pageRequest()} is {@link PageRequest.TotalMode#CAPPED CAPPED}
+     * and counting stopped at the {@linkplain PageRequest#totalCap() maximum count},
+     * in which case there are at least {@link #totalElements()} elements.
+     *
+     * @return {@code true} if the total number of elements is capped.
+     */
+    default boolean isCapped() {
+        PageRequest<T> pageRequest = pageRequest();
+        return hasTotals()
+                && pageRequest.totalMode() == PageRequest.TotalMode.CAPPED
+                && totalElements() >= pageRequest.totalCap();
+    }
+
+    /**
+     * <p>Returns a lazy, sequential stream of the results of the given page
+     * followed by the results of all subsequent pages, up to the
+     * {@linkplain #totalPages() total number of pages} that is reported by
+     * the given page. Each subsequent page is obtained by supplying a
+     * {@linkplain PageRequest#page(long) page request for its page number}
+     * to the given fetcher, typically a repository method with return type
+     * {@code Page}, such as {@link BasicRepository#findAll(PageRequest)}.
+     * For example,</p>
+     *
+     * <pre>
+     * {@code Page<Product>} page1 = products.findAll(PageRequest.of(Product.class).size(500).asc("id"));
+     * try ({@code Stream<Product>} all = Page.streamAll(page1, products::findAll, executor, 4)) {
+     *     all.forEach(report::add);
+     * }
+     * </pre>
+     *
+     * <p>Because page numbers are known in advance, subsequent pages are
+     * requested concurrently on the given executor, with up to
+     * {@code maxConcurrency} pages requested or awaiting consumption at a
+     * time. Results are streamed in order of page number. No subsequent
+     * pages are requested until the first result is consumed. Changes to the
+     * data while pages are being requested can cause results to be missed
+     * or repeated, as with any offset-based pagination.</p>
+     *
+     * <p>The stream is {@linkplain java.util.Spliterator#SIZED sized}, with the
+     * number of results that the total number of elements of the given page
+     * indicates remain from the start of that page.</p>
+     *
+     * <p>An exception that is raised by the fetcher is raised by the stream
+     * operation that requires the page. Close the stream if it is not
+     * consumed to the end, so that further pages are not requested.</p>
+     *
+     * @param <T>            the type of elements in the pages.
+     * @param firstPage      the first page of results, which must have exact totals.
+     * @param fetcher        function that obtains the page for a page request.
+     * @param executor       executor that runs the fetcher for subsequent pages.
+     * @param maxConcurrency maximum number of pages to request ahead of the
+     *                       page that is being consumed.
+     * @return a stream of the results of all pages, starting with the given page.
+     * @throws IllegalArgumentException if {@code maxConcurrency} is less than 1,
+     *         or if the given page does not have exact totals or was not requested
+     *         with {@linkplain PageRequest.Mode#OFFSET offset pagination}.
+     */
+    static <T> Stream<T> streamAll(Page<T> firstPage,
+                                   Function<PageRequest<T>, Page<T>> fetcher,
+                                   Executor executor,
+                                   int maxConcurrency) {
+        return streamAll(firstPage, fetcher, executor, maxConcurrency, null);
+    }
+
+    /**
+     * <p>Returns a lazy, sequential stream of the results of the given page
+     * followed by the results of all subsequent pages, reporting the time
+     * that is taken to fetch each subsequent page to the given listener.
+     * See {@link #streamAll(Page, Function, Executor, int)}.</p>
+     *
+     * <p>The listener is invoked on the thread that fetched the page,
+     * and must therefore be safe to invoke from multiple threads. It is
+     * also invoked for a fetch that raises an exception.</p>
+     *
+     * @param <T>             the type of elements in the pages.
+     * @param firstPage       the first page of results, which must have exact totals.
+     * @param fetcher         function that obtains the page for a page request.
+     * @param executor        executor that runs the fetcher for subsequent pages.
+     * @param maxConcurrency  maximum number of pages to request ahead of the
+     *                        page that is being consumed.
+     * @param latencyListener receives the page request and elapsed time
+     *                        of each page that is fetched, or {@code null}.
+     * @return a stream of the results of all pages, starting with the given page.
+     * @throws IllegalArgumentException if {@code maxConcurrency} is less than 1,
+     *         or if the given page does not have exact totals or was not requested
+     *         with {@linkplain PageRequest.Mode#OFFSET offset pagination}.
+     */
+    static <T> Stream<T> streamAll(Page<T> firstPage,
+                                   Function<PageRequest<T>, Page<T>> fetcher,
+                                   Executor executor,
+                                   int maxConcurrency,
+                                   BiConsumer<PageRequest<T>, Duration> latencyListener) {
+        OffsetPageSpliterator<T> spliterator = new OffsetPageSpliterator<>(firstPage, fetcher, executor, maxConcurrency, latencyListener);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    /**
+     * <p>Returns a lazy, sequential stream of the entities with Id values
+     * between the given minimum and maximum, which splits by ranges of a
+     * numeric Id rather than by the results of a single query. A Jakarta Data
+     * provider can use it for {@link BasicRepository#findAll()} so that a
+     * {@linkplain Stream#parallel() parallel} stream of all entities becomes a
+     * partitioned scan, where each range is retrieved by its own query,
+     * typically on its own connection. For example,</p>
+     *
+     * <pre>
+     * {@code Stream<Product>} all = Page.streamKeyRanges(Sort.asc("id"), minId, maxId, 10_000,
+     *         (min, max) -&gt; findByIdBetween(min, max));
+     * </pre>
+     *
+     * <p>The provider first determines the minimum and maximum values of the
+     * Id attribute. The range is then halved each time the stream is split,
+     * until ranges reach the minimum range size. Each range is retrieved with
+     * the range query, for example, with a query such as
+     * {@code WHERE id BETWEEN ?1 AND ?2 ORDER BY id}, where the ordering
+     * matches the {@link Sort} on the Id attribute.</p>
+     *
+     * <p>Ranges are encountered in the direction of the {@code Sort} on the Id
+     * attribute, so that a sequential stream produces the same order as a single
+     * query. The estimated size is the number of keys in the remaining range,
+     * which is exact only when keys are dense. Closing the stream closes the
+     * results of any range queries that are not fully traversed.</p>
+     *
+     * @param <T>          entity type.
+     * @param idSort       sort on the Id attribute, which determines the encounter order of ranges.
+     * @param minKey       minimum value of the Id attribute.
+     * @param maxKey       maximum value of the Id attribute.
+     * @param minRangeSize smallest range of Id values into which to split.
+     * @param rangeQuery   retrieves the entities with Id values within the given
+     *                     inclusive bounds, ordered by Id in the direction of
+     *                     {@code idSort}, as a stream that is closed after it is
+     *                     traversed.
+     * @return a stream of the entities.
+     * @throws IllegalArgumentException if the minimum key is greater than the maximum key
+     *                                  or the minimum range size is less than 1.
+     */
+    static <T> Stream<T> streamKeyRanges(Sort<? super T> idSort,
+                                         long minKey,
+                                         long maxKey,
+                                         long minRangeSize,
+                                         BiFunction<Long, Long, Stream<T>> rangeQuery) {
+        return KeyRangeSpliterator.stream(idSort, minKey, maxKey, minRangeSize, rangeQuery);
+    }
 }
@@ -27,6 +27,7 @@ import jakarta.data.repository.Query;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 /**
  * <p>A request for a single well-specified page of query results.</p>
@@ -130,6 +131,36 @@ public interface PageRequest<T> {
         return new Pagination<T>(1, maxPageSize, Collections.emptyList(), Mode.OFFSET, null, true);
     }
 
+    /**
+     * <p>Creates a mutable {@link Builder} of page requests for entities of the
+     * specified entity class. Unlike the methods of {@code PageRequest}, which
+     * produce a new immutable instance on every call, the builder accumulates
+     * pagination information and sort criteria in place and produces a single
+     * page request when {@link Builder#build()} is invoked. For example,</p>
+     *
+     * <pre>
+     * {@code PageRequest<Car>} pageRequest = PageRequest.builder(Car.class)
+     *                                         .size(25)
+     *                                         .desc("price")
+     *                                         .asc("mileage")
+     *                                         .asc("vin")
+     *                                         .afterKeyset(price, mileage, vin)
+     *                                         .build();
+     * </pre>
+     *
+     * <p>A builder can be {@linkplain Builder#reset() reset} and reused,
+     * but it must not be shared across threads.</p>
+     *
+     * @param <T>         entity class of attributes that can be used as sort criteria.
+     * @param entityClass entity class of attributes that can be used as sort criteria.
+     * @return a new builder with a page number of 1, a page size of 10, no sort
+     *         criteria, offset pagination, and retrieval of totals enabled.
+     *         This method never returns <code>null</code>.
+     */
+    static <T> Builder<T> builder(Class<T> entityClass) {
+        return new PageRequestBuilder<T>();
+    }
+
     /**
      * <p>Requests {@link CursoredPage keyset pagination} in the forward direction,
      * starting after the specified keyset values.</p>
@@ -285,11 +316,100 @@ public interface PageRequest<T> {
      * number elements} available across all pages. This behavior
      * is enabled by default. To obtain a page request with total
      * retrieval disabled, call {@link #withoutTotal()}.
+     * This method returns {@code true} unless the
+     * {@linkplain #totalMode() total mode} is {@link TotalMode#NONE}.
      * @return {@code true} if the total number of elements should
      *         be retrieved from the database.
      */
     boolean requestTotal();
 
+    /**
+     * Returns how the {@linkplain Page#totalElements() total number of
+     * elements} is to be retrieved by a query method which returns a
+     * {@link Page}. The default is {@link TotalMode#EXACT}.
+     *
+     * <p>The default implementation of this method returns
+     * {@link TotalMode#EXACT} if {@link #requestTotal()} is {@code true},
+     * otherwise {@link TotalMode#NONE}.</p>
+     *
+     * @return the strategy for retrieving the total number of elements.
+     */
+    default TotalMode totalMode() {
+        return requestTotal() ? TotalMode.EXACT : TotalMode.NONE;
+    }
+
+    /**
+     * Returns the maximum number of elements to count when the
+     * {@linkplain #totalMode() total mode} is {@link TotalMode#CAPPED}.
+     *
+     * <p>The default implementation of this method returns {@code 0}.</p>
+     *
+     * @return the maximum number of elements to count; {@code 0} if
+     *         the total mode is not {@link TotalMode#CAPPED}.
+     */
+    default long totalCap() {
+        return 0;
+    }
+
+    /**
+     * <p>Returns a total number of elements that was previously retrieved
+     * for the same query, as supplied to {@link #withKnownTotal(long)}.
+     * A Jakarta Data provider can use the known total as the
+     * {@linkplain Page#totalElements() total number of elements} of the
+     * requested page rather than retrieving the total from the database again.</p>
+     *
+     * <p>The known total is retained when the page number, size, sort criteria,
+     * or cursor of the page request are changed. It is discarded when the
+     * {@linkplain #totalMode() total mode} is changed, for example, by
+     * {@link #withTotal()}, so that a fresh total is retrieved.</p>
+     *
+     * <p>The default implementation of this method returns
+     * {@link OptionalLong#empty()}.</p>
+     *
+     * @return the known total number of elements; {@link OptionalLong#empty()}
+     *         if the total is not known or is not {@linkplain #requestTotal() requested}.
+     */
+    default OptionalLong knownTotal() {
+        return OptionalLong.empty();
+    }
+
+    /**
+     * <p>Indicates that the Jakarta Data provider may retrieve a page that is
+     * requested with {@linkplain Mode#OFFSET offset pagination} by seeking
+     * from the keyset of a page boundary that it has previously observed for
+     * the same query, instead of skipping all results that precede the page.
+     * The cost of retrieving a deep page, such as page 5000, then no longer
+     * grows with the page number.</p>
+     *
+     * <p>A provider that honors this option typically records the
+     * {@linkplain PageRequest.Cursor keyset} of the last result of each page
+     * that it retrieves, for example, in a
+     * {@link jakarta.data.page.impl.BoundaryCursorCache BoundaryCursorCache}.
+     * A provider that does not honor this option uses offset pagination.</p>
+     *
+     * <p>Keyset seek returns the same results as offset pagination only when
+     * both of the following conditions hold:</p>
+     * <ul>
+     * <li>the {@linkplain #sorts() sort criteria} define a unique, total order
+     *     of the results, for example, by ending with the unique identifier
+     *     of the entity, so that no two results have the same keyset; and</li>
+     * <li>no results are added, removed, or modified in a way that affects
+     *     their order between page requests.</li>
+     * </ul>
+     * <p>Otherwise the results can differ. Results with the same keyset as a
+     * recorded page boundary might be skipped or repeated. When results are
+     * added or removed, results are neither skipped nor repeated at a recorded
+     * page boundary, as with {@linkplain CursoredPage keyset pagination},
+     * whereas offset pagination would shift them.</p>
+     *
+     * <p>The default implementation of this method returns {@code false}.</p>
+     *
+     * @return {@code true} if keyset seek is enabled. The default is {@code false}.
+     */
+    default boolean keysetSeek() {
+        return false;
+    }
+
     /**
      * Return the order collection if it was specified on this page request,
      * otherwise an empty list.
@@ -298,6 +418,33 @@ public interface PageRequest<T> {
      */
     List<Sort<? super T>> sorts();
 
+    /**
+     * <p>Returns the shape of this page request, which captures only
+     * the aspects of the page request that affect the structure of the
+     * query that is sent to the database: the {@linkplain #mode() mode},
+     * the {@linkplain #sorts() sort criteria}, how the
+     * {@linkplain #totalMode() total} is retrieved, and the number of
+     * keyset values in the {@linkplain #cursor() cursor}.</p>
+     *
+     * <p>Page requests that differ only in page number, page size,
+     * or keyset values have equal shapes. A Jakarta Data provider can
+     * use the shape as the key for a cache of prepared statements,
+     * supplying the values that the shape omits as parameters.</p>
+     *
+     * <p>The built-in page requests compute the shape once, when the
+     * page request is created, and share it with the page requests that
+     * are derived from it with the same shape, such as the next page.
+     * The default implementation of this method instead copies the sort
+     * criteria and computes a new shape on every call, so implementations
+     * that are used with such a cache should override this method to
+     * retain the shape.</p>
+     *
+     * @return the shape of this page request.
+     */
+    default Shape shape() {
+        return new PageRequestShape(mode(), List.copyOf(sorts()), totalMode(), cursor().map(Cursor::size).orElse(0));
+    }
+
     /**
      * <p>Returns the <code>PageRequest</code> requesting the next page if
      * using offset pagination.</p>
@@ -469,13 +616,108 @@ public interface PageRequest<T> {
 
     /**
      * Returns an otherwise-equivalent page request with
-     * {@link #requestTotal()} set to {@code false}, so that
+     * {@link #requestTotal()} set to {@code true}, so that
      * totals will be retrieved from the database.
+     * The {@linkplain #totalMode() total mode} is
+     * {@link TotalMode#EXACT}, and any {@linkplain #knownTotal()
+     * known total} is discarded.
      * @return a page request with {@link #requestTotal()}
      *         set to {@code true}.
      */
     PageRequest<T> withTotal();
 
+    /**
+     * Returns an otherwise-equivalent page request with the
+     * {@linkplain #totalMode() total mode} set to
+     * {@link TotalMode#ESTIMATED}, so that the total number of
+     * elements can be estimated rather than counted.
+     * <p>The default implementation of this method throws
+     * {@link UnsupportedOperationException}.</p>
+     * @return a page request with the total mode set to
+     *         {@link TotalMode#ESTIMATED}.
+     * @throws UnsupportedOperationException if the implementation does not
+     *         support estimated totals.
+     */
+    default PageRequest<T> withEstimatedTotal() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support estimated totals.");
+    }
+
+    /**
+     * Returns an otherwise-equivalent page request with the
+     * {@linkplain #totalMode() total mode} set to
+     * {@link TotalMode#CAPPED}, so that no more than the given
+     * number of elements are counted.
+     * <p>The default implementation of this method throws
+     * {@link UnsupportedOperationException}.</p>
+     * @param maxCount maximum number of elements to count.
+     * @return a page request with the total mode set to
+     *         {@link TotalMode#CAPPED}.
+     * @throws IllegalArgumentException if the maximum count is less than 1.
+     * @throws UnsupportedOperationException if the implementation does not
+     *         support capped totals.
+     */
+    default PageRequest<T> withCappedTotal(long maxCount) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support capped totals.");
+    }
+
+    /**
+     * Returns an otherwise-equivalent page request with the
+     * {@linkplain #totalMode() total mode} set to
+     * {@link TotalMode#INLINE}, so that the exact total number of
+     * elements is retrieved by the same query as the page content.
+     * <p>The default implementation of this method throws
+     * {@link UnsupportedOperationException}.</p>
+     * @return a page request with the total mode set to
+     *         {@link TotalMode#INLINE}.
+     * @throws UnsupportedOperationException if the implementation does not
+     *         support inline totals.
+     */
+    default PageRequest<T> withInlineTotal() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support inline totals.");
+    }
+
+    /**
+     * <p>Returns an otherwise-equivalent page request that carries a
+     * {@linkplain #knownTotal() known total number of elements}, such as the
+     * total of a page that was previously retrieved for the same query.
+     * The factory methods of {@link jakarta.data.page.impl.CursoredPageRecord}
+     * and {@link jakarta.data.page.impl.LazyCursoredPageRecord} supply an exact
+     * total in this way to the {@link CursoredPage#nextPageRequest() next} and
+     * {@link CursoredPage#previousPageRequest() previous} page requests,
+     * so that the total is not retrieved again while traversing pages.</p>
+     *
+     * <p>The known total is ignored if {@link #requestTotal()} is {@code false}.</p>
+     *
+     * <p>The default implementation of this method throws
+     * {@link UnsupportedOperationException}.</p>
+     *
+     * @param totalElements the total number of elements across all pages.
+     * @return a page request with the known total.
+     * @throws IllegalArgumentException if the total is negative.
+     * @throws UnsupportedOperationException if the implementation does not
+     *         support known totals.
+     */
+    default PageRequest<T> withKnownTotal(long totalElements) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support known totals.");
+    }
+
+    /**
+     * Returns an otherwise-equivalent page request for which
+     * {@linkplain #keysetSeek() keyset seek} is enabled.
+     * The option is retained by the {@link #next()} and
+     * {@link #previous()} page requests.
+     *
+     * <p>The default implementation of this method throws
+     * {@link UnsupportedOperationException}.</p>
+     *
+     * @return a page request with {@link #keysetSeek()} set to {@code true}.
+     * @throws UnsupportedOperationException if the implementation does not
+     *         support keyset seek.
+     */
+    default PageRequest<T> withKeysetSeek() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support keyset seek.");
+    }
+
     /**
      * The type of pagination: offset-based or keyset cursor-based,
      * which includes a direction.
@@ -506,6 +748,126 @@ public interface PageRequest<T> {
         OFFSET
     }
 
+    /**
+     * <p>Strategy for retrieving the {@linkplain Page#totalElements()
+     * total number of elements} across all pages of query results.</p>
+     *
+     * <p>An exact count can cost more than retrieving the page itself
+     * when there are many results. The {@link #ESTIMATED} and
+     * {@link #CAPPED} modes allow the Jakarta Data provider to avoid
+     * counting every result. The resulting page reports whether its
+     * total is {@linkplain Page#totalElementsIsExact() exact} or
+     * {@linkplain Page#isCapped() capped}.</p>
+     */
+    enum TotalMode {
+        /**
+         * Indicates that the total number of elements is not retrieved.
+         * {@link Page#hasTotals()} returns {@code false}.
+         */
+        NONE,
+
+        /**
+         * Indicates that the total number of elements is counted exactly.
+         */
+        EXACT,
+
+        /**
+         * Indicates that the total number of elements is estimated, for example,
+         * from statistics that the database maintains for its query planner.
+         * The estimate might be lower or higher than the actual number of elements.
+         * A Jakarta Data provider that is unable to estimate the total
+         * counts it exactly instead.
+         */
+        ESTIMATED,
+
+        /**
+         * Indicates that elements are counted only up to the
+         * {@linkplain PageRequest#totalCap() maximum count}.
+         * If there are at least as many elements as the maximum count,
+         * the total number of elements is the maximum count, and the page
+         * {@linkplain Page#isCapped() is capped}. Otherwise, the total
+         * number of elements is exact.
+         */
+        CAPPED,
+
+        /**
+         * Indicates that the total number of elements is counted exactly by
+         * the same query that retrieves the page content, so that a page with
+         * totals requires only one round trip to the database. For example,
+         * a Jakarta Data provider for a relational database might select
+         * {@code COUNT(*) OVER()} alongside each result.
+         * When the page has no content, there is no result from which to
+         * read the count, and the provider obtains the total in another way.
+         * The total is exact.
+         */
+        INLINE
+    }
+
+    /**
+     * <p>The shape of a {@link PageRequest}, as returned by
+     * {@link PageRequest#shape()}.</p>
+     *
+     * <p>Shapes are equal if they have the same mode, the same sort criteria
+     * in the same order, the same total mode, and the same number of
+     * keyset values. The hash code is computed once, when the shape is created.</p>
+     */
+    interface Shape {
+        /**
+         * Returns the number of keyset values in the cursor,
+         * or {@code 0} if using offset pagination.
+         *
+         * @return the number of keyset values.
+         */
+        int cursorSize();
+
+        /**
+         * Returns whether or not the shape of the supplied object
+         * is equal to this shape.
+         *
+         * @param shape a page request shape against which to compare.
+         * @return true or false.
+         */
+        @Override
+        boolean equals(Object shape);
+
+        /**
+         * Returns a hash code based on the values that determine equality.
+         *
+         * @return a hash code.
+         */
+        @Override
+        int hashCode();
+
+        /**
+         * Returns the type of pagination.
+         *
+         * @return the type of pagination.
+         */
+        Mode mode();
+
+        /**
+         * Indicates whether the total number of elements is requested.
+         *
+         * @return {@code true} if the total number of elements should
+         *         be retrieved from the database.
+         */
+        boolean requestTotal();
+
+        /**
+         * Returns how the total number of elements is retrieved.
+         *
+         * @return the strategy for retrieving the total number of elements.
+         */
+        TotalMode totalMode();
+
+        /**
+         * Returns the sort criteria, which might be an empty list.
+         *
+         * @return the sort criteria; will never be {@code null}.
+         */
+        List<Sort<?>> sorts();
+    }
+
     /**
      * A cursor that is formed from a keyset, relative to which a next
      * or previous page can be requested.
@@ -513,9 +875,12 @@ public interface PageRequest<T> {
     interface Cursor {
         /**
          * Returns whether or not the keyset values of this cursor
-         * are equal to those of the supplied cursor.
-         * Both instances must also have the same cursor implementation class
-         * in order to be considered equal.
+         * are equal to those of the supplied cursor. Cursors that are
+         * obtained from the static methods of {@code Cursor} are equal
+         * if they have the same {@linkplain #size() size} and equal
+         * keyset values at each position, regardless of which method
+         * obtained them. Cursors of other implementation classes must
+         * have the same implementation class in order to be considered equal.
          *
          * @param cursor a keyset cursor against which to compare.
          * @return true or false.
@@ -533,6 +898,63 @@ public interface PageRequest<T> {
          */
         Object getKeysetElement(int index);
 
+        /**
+         * <p>Returns the keyset value at the specified position as a
+         * {@code long}. The keyset value must be a {@code Long},
+         * {@code Integer}, {@code Short}, or {@code Byte}.</p>
+         *
+         * <p>Cursors that are obtained from {@link #forLong(long)},
+         * {@link #forLong(long, long)}, {@link #forInt(int)}, and
+         * {@link #forInt(int, int)} return the value without boxing it.</p>
+         *
+         * @param  index position (0 is first) of the keyset value to obtain.
+         * @return the keyset value at the specified position.
+         * @throws ClassCastException if the keyset value is not one of the
+         *         supported integral types.
+         * @throws IndexOutOfBoundsException if the index is negative
+         *         or greater than or equal to the {@link #size}.
+         * @throws NullPointerException if the keyset value is {@code null}.
+         */
+        default long getLong(int index) {
+            Object value = getKeysetElement(index);
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return ((Number) value).longValue();
+            } else if (value == null) {
+                throw new NullPointerException("The keyset value at position " + index + " is null.");
+            } else {
+                throw new ClassCastException("The keyset value at position " + index + " has type " +
+                        value.getClass().getName() + ", which is not convertible to long.");
+            }
+        }
+
+        /**
+         * <p>Returns the keyset value at the specified position as an
+         * {@code int}. The keyset value must be an {@code Integer},
+         * {@code Short}, or {@code Byte}.</p>
+         *
+         * <p>Cursors that are obtained from {@link #forInt(int)} and
+         * {@link #forInt(int, int)} return the value without boxing it.</p>
+         *
+         * @param  index position (0 is first) of the keyset value to obtain.
+         * @return the keyset value at the specified position.
+         * @throws ClassCastException if the keyset value is not one of the
+         *         supported integral types.
+         * @throws IndexOutOfBoundsException if the index is negative
+         *         or greater than or equal to the {@link #size}.
+         * @throws NullPointerException if the keyset value is {@code null}.
+         */
+        default int getInt(int index) {
+            Object value = getKeysetElement(index);
+            if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return ((Number) value).intValue();
+            } else if (value == null) {
+                throw new NullPointerException("The keyset value at position " + index + " is null.");
+            } else {
+                throw new ClassCastException("The keyset value at position " + index + " has type " +
+                        value.getClass().getName() + ", which is not convertible to int.");
+            }
+        }
+
         /**
          * Returns a hash code based on the keyset values.
          *
@@ -565,6 +987,55 @@ public interface PageRequest<T> {
         @Override
         String toString();
 
+        /**
+         * <p>Encodes the keyset values of this cursor into a compact, opaque
+         * token that is safe to include in a URL, for example as a query
+         * parameter with which a client requests the next page. The token
+         * is the Base64url encoding (without padding) of a versioned binary
+         * form in which each keyset value is tagged with its type.</p>
+         *
+         * <p>The following types of keyset values are supported:
+         * {@code Integer}, {@code Long}, {@code String}, {@link java.util.UUID},
+         * {@link java.time.Instant}, {@link java.math.BigDecimal},
+         * enumerations, and {@code null}. Use {@link #decode(String, Class...)}
+         * to obtain a cursor from the token.</p>
+         *
+         * <p>The token is not encrypted or signed. Applications must not rely
+         * on it to conceal or protect the keyset values.</p>
+         *
+         * @return the encoded token. Never {@code null}.
+         * @throws UnsupportedOperationException if a keyset value has a type
+         *         that cannot be encoded.
+         */
+        default String encode() {
+            return CursorCodec.encode(this);
+        }
+
+        /**
+         * <p>Obtains a cursor from a token that was produced by
+         * {@link #encode()}.</p>
+         *
+         * <p>If types are specified, their number must match the number of
+         * keyset values in the token, and each keyset value must be an
+         * instance of the corresponding type, where the primitive types
+         * {@code int} and {@code long} are treated as their wrapper types.
+         * Types are required in order to decode keyset values that are
+         * enumerations, which are encoded by name.</p>
+         *
+         * @param token a token that was produced by {@link #encode()}.
+         * @param types expected types of the keyset values, in order,
+         *        or none to accept keyset values of any type
+         *        other than enumerations.
+         * @return a new instance of {@code Cursor}.
+         * @throws IllegalArgumentException if the token is malformed,
+         *         was produced by an unsupported version of the encoding,
+         *         or does not match the expected types.
+         * @throws NullPointerException if the token is {@code null}.
+         */
+        static Cursor decode(String token, Class<?>... types) {
+            return CursorCodec.decode(token, types);
+        }
+
         /**
          * Obtain an instance of {@code Cursor} for the given keyset.
          * @param keyset the keyset
@@ -573,5 +1044,273 @@ public interface PageRequest<T> {
         static Cursor forKeyset(Object... keyset) {
             return new PageRequestCursor(keyset);
         }
+
+        /**
+         * <p>Obtain an instance of {@code Cursor} for a keyset that consists
+         * of a single {@code long} value, such as an entity identifier.</p>
+         *
+         * <p>The cursor stores the value without boxing it. It is
+         * {@linkplain #equals(Object) equal} to, and has the same
+         * {@linkplain #hashCode() hash code} as, a cursor with the same
+         * boxed value that is obtained from {@link #forKeyset(Object...)}.</p>
+         *
+         * @param key the keyset value.
+         * @return a new instance of {@code Cursor}.
+         */
+        static Cursor forLong(long key) {
+            return new LongCursor(key);
+        }
+
+        /**
+         * <p>Obtain an instance of {@code Cursor} for a keyset that consists
+         * of two {@code long} values.</p>
+         *
+         * <p>The cursor stores the values without boxing them. It is
+         * {@linkplain #equals(Object) equal} to, and has the same
+         * {@linkplain #hashCode() hash code} as, a cursor with the same
+         * boxed values that is obtained from {@link #forKeyset(Object...)}.</p>
+         *
+         * @param key1 the first keyset value.
+         * @param key2 the second keyset value.
+         * @return a new instance of {@code Cursor}.
+         */
+        static Cursor forLong(long key1, long key2) {
+            return new LongCursor(key1, key2);
+        }
+
+        /**
+         * <p>Obtain an instance of {@code Cursor} for a keyset that consists
+         * of a single {@code int} value.</p>
+         *
+         * <p>The cursor stores the value without boxing it. It is
+         * {@linkplain #equals(Object) equal} to, and has the same
+         * {@linkplain #hashCode() hash code} as, a cursor with the same
+         * boxed value that is obtained from {@link #forKeyset(Object...)}.</p>
+         *
+         * @param key the keyset value.
+         * @return a new instance of {@code Cursor}.
+         */
+        static Cursor forInt(int key) {
+            return new IntCursor(key);
+        }
+
+        /**
+         * <p>Obtain an instance of {@code Cursor} for a keyset that consists
+         * of two {@code int} values.</p>
+         *
+         * <p>The cursor stores the values without boxing them. It is
+         * {@linkplain #equals(Object) equal} to, and has the same
+         * {@linkplain #hashCode() hash code} as, a cursor with the same
+         * boxed values that is obtained from {@link #forKeyset(Object...)}.</p>
+         *
+         * @param key1 the first keyset value.
+         * @param key2 the second keyset value.
+         * @return a new instance of {@code Cursor}.
+         */
+        static Cursor forInt(int key1, int key2) {
+            return new IntCursor(key1, key2);
+        }
+    }
+
+    /**
+     * <p>A mutable, reusable builder of {@link PageRequest} instances, which is
+     * obtained from {@link PageRequest#builder(Class)}.</p>
+     *
+     * <p>Sort criteria that are added to the builder are appended with lower
+     * priority than all sort criteria that have already been added. The page
+     * number, page size, and keyset cursor are not validated until
+     * {@link #build()} is invoked. Arguments that are invalid regardless of
+     * the rest of the pagination information, such as a null sort criterion,
+     * empty keyset values, a maximum count less than 1, or a negative known
+     * total, are rejected immediately by the method to which they are
+     * supplied.</p>
+     *
+     * <p>After {@link #build()}, the builder retains its state, so that it can
+     * produce further page requests which differ only slightly. Invoke
+     * {@link #reset()} to restore the initial state of the builder before
+     * reusing it for an unrelated page request. Builder instances are not
+     * thread-safe.</p>
+     *
+     * @param <T> entity class of the attributes that are used as sort criteria.
+     */
+    interface Builder<T> {
+        /**
+         * Specifies the page number.
+         *
+         * @param pageNumber the page number.
+         * @return this builder.
+         */
+        Builder<T> page(long pageNumber);
+
+        /**
+         * Specifies the maximum page size.
+         *
+         * @param maxPageSize the number of query results in a full page.
+         * @return this builder.
+         */
+        Builder<T> size(int maxPageSize);
+
+        /**
+         * Appends an {@link Sort#asc(String) ascending sort}.
+         *
+         * @param property name of the entity attribute upon which to sort.
+         * @return this builder.
+         * @throws NullPointerException when the property is null
+         */
+        Builder<T> asc(String property);
+
+        /**
+         * Appends a {@link Sort#ascIgnoreCase(String) case-insensitive ascending sort}.
+         *
+         * @param property name of the entity attribute upon which to sort.
+         * @return this builder.
+         * @throws NullPointerException when the property is null
+         */
+        Builder<T> ascIgnoreCase(String property);
+
+        /**
+         * Appends a {@link Sort#desc(String) descending sort}.
+         *
+         * @param property name of the entity attribute upon which to sort.
+         * @return this builder.
+         * @throws NullPointerException when the property is null
+         */
+        Builder<T> desc(String property);
+
+        /**
+         * Appends a {@link Sort#descIgnoreCase(String) case-insensitive descending sort}.
+         *
+         * @param property name of the entity attribute upon which to sort.
+         * @return this builder.
+         * @throws NullPointerException when the property is null
+         */
+        Builder<T> descIgnoreCase(String property);
+
+        /**
+         * Appends the specified sort criteria.
+         *
+         * @param sort sort criteria to append.
+         * @return this builder.
+         * @throws NullPointerException when the sort criteria is null
+         */
+        Builder<T> sortBy(Sort<? super T> sort);
+
+        /**
+         * Requests keyset pagination in the forward direction,
+         * starting after the specified keyset values.
+         *
+         * @param keyset keyset values.
+         * @return this builder.
+         * @throws IllegalArgumentException if no keyset values are provided.
+         */
+        Builder<T> afterKeyset(Object... keyset);
+
+        /**
+         * Requests keyset pagination in the reverse direction,
+         * starting before the specified keyset values.
+         *
+         * @param keyset keyset values.
+         * @return this builder.
+         * @throws IllegalArgumentException if no keyset values are provided.
+         */
+        Builder<T> beforeKeyset(Object... keyset);
+
+        /**
+         * Requests keyset pagination in the forward direction,
+         * starting after the keyset values of the specified cursor.
+         *
+         * @param keysetCursor cursor with keyset values.
+         * @return this builder.
+         */
+        Builder<T> afterKeysetCursor(Cursor keysetCursor);
+
+        /**
+         * Requests keyset pagination in the reverse direction,
+         * starting before the keyset values of the specified cursor.
+         *
+         * @param keysetCursor cursor with keyset values.
+         * @return this builder.
+         */
+        Builder<T> beforeKeysetCursor(Cursor keysetCursor);
+
+        /**
+         * Requests that totals be retrieved from the database.
+         * This is the default.
+         *
+         * @return this builder.
+         */
+        Builder<T> withTotal();
+
+        /**
+         * Requests that totals not be retrieved from the database.
+         *
+         * @return this builder.
+         */
+        Builder<T> withoutTotal();
+
+        /**
+         * Requests that the total be estimated rather than counted.
+         *
+         * @return this builder.
+         * @see PageRequest#withEstimatedTotal()
+         */
+        Builder<T> withEstimatedTotal();
+
+        /**
+         * Requests that no more than the given number of elements be counted.
+         *
+         * @param maxCount maximum number of elements to count.
+         * @return this builder.
+         * @throws IllegalArgumentException if the maximum count is less than 1.
+         * @see PageRequest#withCappedTotal(long)
+         */
+        Builder<T> withCappedTotal(long maxCount);
+
+        /**
+         * Requests that the exact total be retrieved by the same query as the page content.
+         *
+         * @return this builder.
+         * @see PageRequest#withInlineTotal()
+         */
+        Builder<T> withInlineTotal();
+
+        /**
+         * Supplies a total number of elements that was previously retrieved for the same query.
+         * The known total is discarded if the total mode is subsequently changed.
+         *
+         * @param totalElements the total number of elements across all pages.
+         * @return this builder.
+         * @throws IllegalArgumentException if the total is negative.
+         * @see PageRequest#withKnownTotal(long)
+         */
+        Builder<T> withKnownTotal(long totalElements);
+
+        /**
+         * Enables {@linkplain PageRequest#keysetSeek() keyset seek}.
+         *
+         * @return this builder.
+         * @see PageRequest#withKeysetSeek()
+         */
+        Builder<T> withKeysetSeek();
+
+        /**
+         * Creates an immutable page request from the current state of this builder.
+         *
+         * @return a new instance of <code>PageRequest</code>.
+         *         This method never returns <code>null</code>.
+         * @throws IllegalArgumentException if the page number or page size
+         *         is less than 1, or keyset pagination was requested
+         *         with a cursor that has no keyset values.
+         */
+        PageRequest<T> build();
+
+        /**
+         * Restores the initial state of this builder: a page number of 1,
+         * a page size of 10, no sort criteria, offset pagination, and
+         * retrieval of totals enabled.
+         *
+         * @return this builder.
+         */
+        Builder<T> reset();
     }
-}
\ No newline at end of file
+}
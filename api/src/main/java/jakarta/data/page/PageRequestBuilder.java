@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import jakarta.data.Sort;
+import jakarta.data.page.PageRequest.Cursor;
+import jakarta.data.page.PageRequest.Mode;
+import jakarta.data.page.PageRequest.TotalMode;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalLong;
+
+/**
+ * Built-in implementation of PageRequest.Builder.
+ */
+class PageRequestBuilder<T> implements PageRequest.Builder<T> {
+    /**
+     * Initial capacity for sort criteria, which covers typical requests
+     * without growing the array.
+     */
+    private static final int INITIAL_SORTS = 5;
+
+    private long page = 1;
+    private int size = 10;
+    private Sort<? super T>[] sorts = newSortArray(INITIAL_SORTS);
+    private int sortCount;
+    private Mode mode = Mode.OFFSET;
+    private Cursor cursor;
+    private TotalMode totalMode = TotalMode.EXACT;
+    private long totalCap;
+    private long knownTotal = -1;
+    private boolean keysetSeek;
+
+    @SuppressWarnings("unchecked")
+    private static <T> Sort<? super T>[] newSortArray(int length) {
+        return (Sort<? super T>[]) new Sort<?>[length];
+    }
+
+    @Override
+    public PageRequest.Builder<T> page(long pageNumber) {
+        page = pageNumber;
+        return this;
+    }
+
+    @Override
+    public PageRequest.Builder<T> size(int maxPageSize) {
+        size = maxPageSize;
+        return this;
+    }
+
+    @Override
+    public PageRequest.Builder<T> asc(String property) {
+        return sortBy(Sort.asc(property));
+    }
+
+    @Override
+    public PageRequest.Builder<T> ascIgnoreCase(String property) {
+        return sortBy(Sort.ascIgnoreCase(property));
+    }
+
+    @Override
+    public PageRequest.Builder<T> desc(String property) {
+        return sortBy(Sort.desc(property));
+    }
+
+    @Override
+    public PageRequest.Builder<T> descIgnoreCase(String property) {
+        return sortBy(Sort.descIgnoreCase(property));
+    }
+
+    @Override
+    public PageRequest.Builder<T> sortBy(Sort<? super T> sort) {
+        Objects.requireNonNull(sort, "sort");
+        if (sortCount == sorts.length) {
+            sorts = Arrays.copyOf(sorts, sortCount * 2);
+        }
+        sorts[sortCount++] = sort;
+        return this;
+    }
+
+    @Override
+    public PageRequest.Builder<T> afterKeyset(Object... keyset) {
+        return afterKeysetCursor(new PageRequestCursor(keyset));
+    }
+
+    @Override
+    public PageRequest.Builder<T> beforeKeyset(Object... keyset) {
+        return beforeKeysetCursor(new PageRequestCursor(keyset));
+    }
+
+    @Override
+    public PageRequest.Builder<T> afterKeysetCursor(Cursor keysetCursor) {
+        mode = Mode.CURSOR_NEXT;
+        cursor = keysetCursor;
+        return this;
+    }
+
+    @Override
+    public PageRequest.Builder<T> beforeKeysetCursor(Cursor keysetCursor) {
+        mode = Mode.CURSOR_PREVIOUS;
+        cursor = keysetCursor;
+        return this;
+    }
+
+    @Override
+    public PageRequest.Builder<T> withTotal() {
+        totalMode = TotalMode.EXACT;
+        totalCap = 0;
+        knownTotal = -1;
+        return this;
+    }
+
+    @Override
+    public PageRequest.Builder<T> withoutTotal() {
+        totalMode = TotalMode.NONE;
+        totalCap = 0;
+        knownTotal = -1;
+        return this;
+    }
+
+    @Override
+    public PageRequest.Builder<T> withEstimatedTotal() {
+        totalMode = TotalMode.ESTIMATED;
+        totalCap = 0;
+        knownTotal = -1;
+        return this;
+    }
+
+    @Override
+    public PageRequest.Builder<T> withKeysetSeek() {
+        keysetSeek = true;
+        return this;
+    }
+
+    @Override
+    public PageRequest.Builder<T> withKnownTotal(long totalElements) {
+        if (totalElements < 0) {
+            throw new IllegalArgumentException("totalElements: " + totalElements);
+        }
+        knownTotal = totalElements;
+        return this;
+    }
+
+    @Override
+    public PageRequest.Builder<T> withInlineTotal() {
+        totalMode = TotalMode.INLINE;
+        totalCap = 0;
+        knownTotal = -1;
+        return this;
+    }
+
+    @Override
+    public PageRequest.Builder<T> withCappedTotal(long maxCount) {
+        if (maxCount < 1) {
+            throw new IllegalArgumentException("maxCount: " + maxCount);
+        }
+        totalMode = TotalMode.CAPPED;
+        totalCap = maxCount;
+        knownTotal = -1;
+        return this;
+    }
+
+    @Override
+    public PageRequest<T> build() {
+        return new Pagination<T>(page, size, sortList(), mode, cursor, totalMode, totalCap,
+                knownTotal < 0 ? OptionalLong.empty() : OptionalLong.of(knownTotal), keysetSeek);
+    }
+
+    private List<Sort<? super T>> sortList() {
+        switch (sortCount) {
+            case 0:
+                return Collections.emptyList();
+            case 1:
+                return List.of(sorts[0]);
+            case 2:
+                return List.of(sorts[0], sorts[1]);
+            default:
+                return Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(sorts, sortCount)));
+        }
+    }
+
+    @Override
+    public PageRequest.Builder<T> reset() {
+        page = 1;
+        size = 10;
+        Arrays.fill(sorts, 0, sortCount, null);
+        sortCount = 0;
+        mode = Mode.OFFSET;
+        cursor = null;
+        totalMode = TotalMode.EXACT;
+        totalCap = 0;
+        knownTotal = -1;
+        keysetSeek = false;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(80).append("PageRequest.Builder{page=").append(page)
+                .append(", size=").append(size)
+                .append(", mode=").append(mode)
+                .append(", ").append(sortCount).append(" sorts}")
+                .toString();
+    }
+}
@@ -19,6 +19,7 @@ package jakarta.data.page;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Built-in implementation of Cursor for keyset pagination.
@@ -43,9 +44,38 @@ class PageRequestCursor implements PageRequest.Cursor {
 
     @Override
     public boolean equals(Object o) {
-        return this == o || o != null
-                && o.getClass() == getClass()
-                && Arrays.equals(keyset, ((PageRequestCursor) o).keyset);
+        if (o instanceof PageRequestCursor) {
+            return this == o || Arrays.equals(keyset, ((PageRequestCursor) o).keyset);
+        }
+        return keysetEquals(this, o);
+    }
+
+    /**
+     * Compares the keyset values of a built-in cursor with those of another
+     * object, which is equal if it is a built-in cursor of the same size with
+     * equal values at each position, regardless of which built-in class it is.
+     * Cursors of other implementation classes are never equal, so that
+     * equality remains symmetric.
+     *
+     * @param cursor built-in keyset cursor.
+     * @param o      object against which to compare.
+     * @return true if the other object is a built-in cursor with equal keyset values.
+     */
+    static boolean keysetEquals(PageRequest.Cursor cursor, Object o) {
+        if (!(o instanceof PageRequestCursor || o instanceof LongCursor || o instanceof IntCursor)) {
+            return false;
+        }
+        PageRequest.Cursor other = (PageRequest.Cursor) o;
+        int size = cursor.size();
+        if (size != other.size()) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!Objects.equals(cursor.getKeysetElement(i), other.getKeysetElement(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public Object getKeysetElement(int index) {
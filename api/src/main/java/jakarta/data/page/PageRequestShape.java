@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import jakarta.data.Sort;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Built-in implementation of Shape, with a hash code that is computed once.
+ */
+final class PageRequestShape implements PageRequest.Shape {
+    private final PageRequest.Mode mode;
+    private final List<Sort<?>> sorts;
+    private final PageRequest.TotalMode totalMode;
+    private final int cursorSize;
+    private final int hash;
+
+    /**
+     * The sorts must be an unmodifiable list, which is not copied.
+     */
+    @SuppressWarnings("unchecked")
+    PageRequestShape(PageRequest.Mode mode, List<? extends Sort<?>> sorts, PageRequest.TotalMode totalMode, int cursorSize) {
+        this.mode = mode;
+        this.sorts = (List<Sort<?>>) sorts;
+        this.totalMode = totalMode;
+        this.cursorSize = cursorSize;
+
+        int h = mode.ordinal();
+        h = 31 * h + this.sorts.hashCode();
+        h = 31 * h + totalMode.ordinal();
+        this.hash = 31 * h + cursorSize;
+    }
+
+    @Override
+    public int cursorSize() {
+        return cursorSize;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PageRequestShape)) {
+            return false;
+        }
+        PageRequestShape s = (PageRequestShape) o;
+        return hash == s.hash
+                && mode == s.mode
+                && totalMode == s.totalMode
+                && cursorSize == s.cursorSize
+                && sorts.equals(s.sorts);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public PageRequest.Mode mode() {
+        return mode;
+    }
+
+    @Override
+    public boolean requestTotal() {
+        return totalMode != PageRequest.TotalMode.NONE;
+    }
+
+    @Override
+    public PageRequest.TotalMode totalMode() {
+        return totalMode;
+    }
+
+    @Override
+    public List<Sort<?>> sorts() {
+        return sorts;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder(60 + sorts.size() * 20)
+                .append("PageRequest.Shape{mode=").append(mode);
+        if (cursorSize > 0) {
+            s.append(", ").append(cursorSize).append(" keys");
+        }
+        if (totalMode == PageRequest.TotalMode.EXACT) {
+            s.append(", total");
+        } else if (totalMode != PageRequest.TotalMode.NONE) {
+            s.append(", ").append(totalMode.name().toLowerCase(Locale.ROOT)).append(" total");
+        }
+        for (Sort<?> sort : sorts) {
+            s.append(", ").append(sort.property());
+            if (sort.ignoreCase()) {
+                s.append(" IGNORE CASE");
+            }
+            s.append(sort.isAscending() ? " ASC" : " DESC");
+        }
+        return s.append("}").toString();
+    }
+}
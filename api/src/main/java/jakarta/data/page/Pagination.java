@@ -22,16 +22,35 @@ import jakarta.data.Sort;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 /**
- * Built-in implementation of PageRequest.
+ * Built-in implementation of PageRequest. The {@link #shape() shape} is
+ * computed when the page request is created, and is carried over to page
+ * requests that are derived from it without changing the shape, such as
+ * by {@link #next()} or {@link #afterKeyset(Object...)}. Because the shape
+ * is derived from the other fields, it does not take part in
+ * {@link #equals(Object)} or {@link #hashCode()}.
  */
-record Pagination<T>(long page, int size, List<Sort<? super T>> sorts, Mode mode, Cursor type, boolean requestTotal) implements PageRequest<T> {
+final class Pagination<T> implements PageRequest<T> {
+    private final long page;
+    private final int size;
+    private final List<Sort<? super T>> sorts;
+    private final Mode mode;
+    private final Cursor type;
+    private final TotalMode totalMode;
+    private final long totalCap;
+    private final OptionalLong knownTotal;
+    private final boolean keysetSeek;
+    private final Shape shape;
 
-    Pagination {
+    private Pagination(long page, int size, List<Sort<? super T>> sorts, Mode mode, Cursor type,
+                       TotalMode totalMode, long totalCap, OptionalLong knownTotal, boolean keysetSeek,
+                       Shape shape) {
         if (page < 1) {
             throw new IllegalArgumentException("pageNumber: " + page);
         } else if (size < 1) {
@@ -41,46 +60,172 @@ record Pagination<T>(long page, int size, List<Sort<? super T>> sorts, Mode mode
         if (mode != Mode.OFFSET && (type == null || type.size() == 0)) {
             throw new IllegalArgumentException("No keyset values were provided.");
         }
+
+        if (totalMode == TotalMode.CAPPED) {
+            if (totalCap < 1) {
+                throw new IllegalArgumentException("maxCount: " + totalCap);
+            }
+        } else {
+            totalCap = 0;
+        }
+
+        if (totalMode == TotalMode.NONE) {
+            knownTotal = OptionalLong.empty();
+        } else if (knownTotal.isPresent() && knownTotal.getAsLong() < 0) {
+            throw new IllegalArgumentException("knownTotal: " + knownTotal.getAsLong());
+        }
+
+        this.page = page;
+        this.size = size;
+        this.sorts = sorts;
+        this.mode = mode;
+        this.type = type;
+        this.totalMode = totalMode;
+        this.totalCap = totalCap;
+        this.knownTotal = knownTotal;
+        this.keysetSeek = keysetSeek;
+        // sorts is always an unmodifiable list, so the shape does not need to copy it
+        this.shape = shape == null ? new PageRequestShape(mode, sorts, totalMode, type == null ? 0 : type.size()) : shape;
+    }
+
+    Pagination(long page, int size, List<Sort<? super T>> sorts, Mode mode, Cursor type,
+               TotalMode totalMode, long totalCap, OptionalLong knownTotal, boolean keysetSeek) {
+        this(page, size, sorts, mode, type, totalMode, totalCap, knownTotal, keysetSeek, null);
+    }
+
+    Pagination(long page, int size, List<Sort<? super T>> sorts, Mode mode, Cursor type, boolean requestTotal) {
+        this(page, size, sorts, mode, type, requestTotal ? TotalMode.EXACT : TotalMode.NONE, 0, OptionalLong.empty(),
+                false);
+    }
+
+    @Override
+    public long page() {
+        return page;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public List<Sort<? super T>> sorts() {
+        return sorts;
+    }
+
+    @Override
+    public Mode mode() {
+        return mode;
+    }
+
+    @Override
+    public TotalMode totalMode() {
+        return totalMode;
+    }
+
+    @Override
+    public long totalCap() {
+        return totalCap;
+    }
+
+    @Override
+    public OptionalLong knownTotal() {
+        return knownTotal;
+    }
+
+    @Override
+    public boolean keysetSeek() {
+        return keysetSeek;
+    }
+
+    @Override
+    public Shape shape() {
+        return shape;
+    }
+
+    @Override
+    public boolean requestTotal() {
+        return totalMode != TotalMode.NONE;
     }
 
     @Override
     public PageRequest<T> withoutTotal() {
-        return new Pagination<>(page, size, sorts, mode, type, false);
+        return new Pagination<>(page, size, sorts, mode, type, TotalMode.NONE, 0, OptionalLong.empty(), keysetSeek);
     }
 
     @Override
     public PageRequest<T> withTotal() {
-        return new Pagination<>(page, size, sorts, mode, type, true);
+        return new Pagination<>(page, size, sorts, mode, type, TotalMode.EXACT, 0, OptionalLong.empty(), keysetSeek);
+    }
+
+    @Override
+    public PageRequest<T> withEstimatedTotal() {
+        return new Pagination<>(page, size, sorts, mode, type, TotalMode.ESTIMATED, 0, OptionalLong.empty(), keysetSeek);
+    }
+
+    @Override
+    public PageRequest<T> withKeysetSeek() {
+        return new Pagination<>(page, size, sorts, mode, type, totalMode, totalCap, knownTotal, true, shape);
+    }
+
+    @Override
+    public PageRequest<T> withKnownTotal(long totalElements) {
+        if (totalElements < 0) {
+            throw new IllegalArgumentException("totalElements: " + totalElements);
+        }
+        return new Pagination<>(page, size, sorts, mode, type, totalMode, totalCap, OptionalLong.of(totalElements), keysetSeek, shape);
+    }
+
+    @Override
+    public PageRequest<T> withInlineTotal() {
+        return new Pagination<>(page, size, sorts, mode, type, TotalMode.INLINE, 0, OptionalLong.empty(), keysetSeek);
+    }
+
+    @Override
+    public PageRequest<T> withCappedTotal(long maxCount) {
+        return new Pagination<>(page, size, sorts, mode, type, TotalMode.CAPPED, maxCount, OptionalLong.empty(), keysetSeek);
     }
 
     @Override
     public PageRequest<T> afterKeyset(Object... keyset) {
-        return new Pagination<T>(page, size, sorts, Mode.CURSOR_NEXT, new PageRequestCursor(keyset), requestTotal);
+        return new Pagination<T>(page, size, sorts, Mode.CURSOR_NEXT, new PageRequestCursor(keyset), totalMode, totalCap, knownTotal, keysetSeek,
+                shapeFor(Mode.CURSOR_NEXT, keyset.length));
     }
 
     @Override
     public PageRequest<T> beforeKeyset(Object... keyset) {
-        return new Pagination<T>(page, size, sorts, Mode.CURSOR_PREVIOUS, new PageRequestCursor(keyset), requestTotal);
+        return new Pagination<T>(page, size, sorts, Mode.CURSOR_PREVIOUS, new PageRequestCursor(keyset), totalMode, totalCap, knownTotal, keysetSeek,
+                shapeFor(Mode.CURSOR_PREVIOUS, keyset.length));
     }
 
     @Override
     public PageRequest<T> afterKeysetCursor(Cursor keysetCursor) {
-        return new Pagination<T>(page, size, sorts, Mode.CURSOR_NEXT, keysetCursor, requestTotal);
+        return new Pagination<T>(page, size, sorts, Mode.CURSOR_NEXT, keysetCursor, totalMode, totalCap, knownTotal, keysetSeek,
+                keysetCursor == null ? null : shapeFor(Mode.CURSOR_NEXT, keysetCursor.size()));
     }
 
     @Override
     public PageRequest<T> beforeKeysetCursor(Cursor keysetCursor) {
-        return new Pagination<T>(page, size, sorts, Mode.CURSOR_PREVIOUS, keysetCursor, requestTotal);
+        return new Pagination<T>(page, size, sorts, Mode.CURSOR_PREVIOUS, keysetCursor, totalMode, totalCap, knownTotal, keysetSeek,
+                keysetCursor == null ? null : shapeFor(Mode.CURSOR_PREVIOUS, keysetCursor.size()));
     }
 
     @Override
     public PageRequest<T> asc(String property) {
-        return new Pagination<T>(page, size, combine(sorts, Sort.asc(property)), mode, type, requestTotal);
+        return new Pagination<T>(page, size, combine(sorts, Sort.asc(property)), mode, type, totalMode, totalCap, knownTotal, keysetSeek);
     }
 
     @Override
     public PageRequest<T> ascIgnoreCase(String property) {
-        return new Pagination<T>(page, size, combine(sorts, Sort.ascIgnoreCase(property)), mode, type, requestTotal);
+        return new Pagination<T>(page, size, combine(sorts, Sort.ascIgnoreCase(property)), mode, type, totalMode, totalCap, knownTotal, keysetSeek);
+    }
+
+    /**
+     * Returns the shape of this page request if a page request with the given
+     * mode and number of keyset values has the same shape, otherwise null.
+     */
+    private Shape shapeFor(Mode newMode, int cursorSize) {
+        return newMode == mode && cursorSize == shape.cursorSize() ? shape : null;
     }
 
     private static final <E> List<E> combine(List<E> list, E element) {
@@ -103,18 +248,18 @@ record Pagination<T>(long page, int size, List<Sort<? super T>> sorts, Mode mode
 
     @Override
     public PageRequest<T> desc(String property) {
-        return new Pagination<T>(page, size, combine(sorts, Sort.desc(property)), mode, type, requestTotal);
+        return new Pagination<T>(page, size, combine(sorts, Sort.desc(property)), mode, type, totalMode, totalCap, knownTotal, keysetSeek);
     }
 
     @Override
     public PageRequest<T> descIgnoreCase(String property) {
-        return new Pagination<T>(page, size, combine(sorts, Sort.descIgnoreCase(property)), mode, type, requestTotal);
+        return new Pagination<T>(page, size, combine(sorts, Sort.descIgnoreCase(property)), mode, type, totalMode, totalCap, knownTotal, keysetSeek);
     }
 
     @Override
     public PageRequest<T> next() {
         if (mode == Mode.OFFSET) {
-            return new Pagination<T>(page + 1, this.size, this.sorts, Mode.OFFSET, null, requestTotal);
+            return new Pagination<T>(page + 1, this.size, this.sorts, Mode.OFFSET, null, totalMode, totalCap, knownTotal, keysetSeek, shape);
         } else {
             throw new UnsupportedOperationException("Not supported for keyset pagination. Instead use afterKeyset or afterKeysetCursor " +
                     "to provide the next keyset values or obtain the nextPageRequest from a CursoredPage.");
@@ -124,13 +269,38 @@ record Pagination<T>(long page, int size, List<Sort<? super T>> sorts, Mode mode
     @Override
     public PageRequest<T> previous() {
         if (mode == Mode.OFFSET) {
-            return page()<=1 ? null : new Pagination<T>(page - 1, this.size, this.sorts, Mode.OFFSET, null, requestTotal);
+            return page()<=1 ? null : new Pagination<T>(page - 1, this.size, this.sorts, Mode.OFFSET, null, totalMode, totalCap, knownTotal, keysetSeek, shape);
         } else {
             throw new UnsupportedOperationException("Not supported for keyset pagination. Instead use beforeKeyset or beforeKeysetCursor " +
                     "to provide the previous keyset values or obtain the previousPageRequest from a CursoredPage.");
         }
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Pagination)) {
+            return false;
+        }
+        Pagination<?> p = (Pagination<?>) o;
+        return page == p.page
+                && size == p.size
+                && totalCap == p.totalCap
+                && keysetSeek == p.keysetSeek
+                && mode == p.mode
+                && totalMode == p.totalMode
+                && sorts.equals(p.sorts)
+                && Objects.equals(type, p.type)
+                && knownTotal.equals(p.knownTotal);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(page, size, sorts, mode, type, totalMode, totalCap, knownTotal, keysetSeek);
+    }
+
     @Override
     public String toString() {
         StringBuilder s = new StringBuilder(mode == Mode.OFFSET ? 100 : 150)
@@ -152,12 +322,12 @@ record Pagination<T>(long page, int size, List<Sort<? super T>> sorts, Mode mode
 
     @Override
     public PageRequest<T> page(long pageNumber) {
-        return new Pagination<T>(pageNumber, size, sorts, mode, type, requestTotal);
+        return new Pagination<T>(pageNumber, size, sorts, mode, type, totalMode, totalCap, knownTotal, keysetSeek, shape);
     }
 
     @Override
     public PageRequest<T> size(int maxPageSize) {
-        return new Pagination<T>(page, maxPageSize, sorts, mode, type, requestTotal);
+        return new Pagination<T>(page, maxPageSize, sorts, mode, type, totalMode, totalCap, knownTotal, keysetSeek, shape);
     }
 
     @Override
@@ -165,31 +335,31 @@ record Pagination<T>(long page, int size, List<Sort<? super T>> sorts, Mode mode
         List<Sort<? super T>> sortList = sorts instanceof List ? List.copyOf((List<Sort<? super T>>) sorts)
                 : sorts == null ? Collections.emptyList()
                 : StreamSupport.stream(sorts.spliterator(), false).collect(Collectors.toUnmodifiableList());
-        return new Pagination<T>(page, size, sortList, mode, type, requestTotal);
+        return new Pagination<T>(page, size, sortList, mode, type, totalMode, totalCap, knownTotal, keysetSeek);
     }
 
     @Override
     public PageRequest<T> sortBy(Sort<? super T> sort) {
-        return new Pagination<T>(page, size, List.of(sort), mode, type, requestTotal);
+        return new Pagination<T>(page, size, List.of(sort), mode, type, totalMode, totalCap, knownTotal, keysetSeek);
     }
 
     @Override
     public PageRequest<T> sortBy(Sort<? super T> sort1, Sort<? super T> sort2) {
-        return new Pagination<T>(page, size, List.of(sort1, sort2), mode, type, requestTotal);
+        return new Pagination<T>(page, size, List.of(sort1, sort2), mode, type, totalMode, totalCap, knownTotal, keysetSeek);
     }
 
     @Override
     public PageRequest<T> sortBy(Sort<? super T> sort1, Sort<? super T> sort2, Sort<? super T> sort3) {
-        return new Pagination<T>(page, size, List.of(sort1, sort2, sort3), mode, type, requestTotal);
+        return new Pagination<T>(page, size, List.of(sort1, sort2, sort3), mode, type, totalMode, totalCap, knownTotal, keysetSeek);
     }
 
     @Override
     public PageRequest<T> sortBy(Sort<? super T> sort1, Sort<? super T> sort2, Sort<? super T> sort3, Sort<? super T> sort4) {
-        return new Pagination<T>(page, size, List.of(sort1, sort2, sort3, sort4), mode, type, requestTotal);
+        return new Pagination<T>(page, size, List.of(sort1, sort2, sort3, sort4), mode, type, totalMode, totalCap, knownTotal, keysetSeek);
     }
 
     @Override
     public PageRequest<T> sortBy(Sort<? super T> sort1, Sort<? super T> sort2, Sort<? super T> sort3, Sort<? super T> sort4, Sort<? super T> sort5) {
-        return new Pagination<T>(page, size, List.of(sort1, sort2, sort3, sort4, sort5), mode, type, requestTotal);
+        return new Pagination<T>(page, size, List.of(sort1, sort2, sort3, sort4, sort5), mode, type, totalMode, totalCap, knownTotal, keysetSeek);
     }
 }
\ No newline at end of file
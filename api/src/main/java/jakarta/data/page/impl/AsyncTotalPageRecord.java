@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * <p>Record type implementing {@link Page}, for which the total number of
+ * elements is computed asynchronously. A repository implementation can start
+ * the count query, construct the page as soon as the page content is
+ * retrieved, and return it without waiting for the count to complete.
+ * The count is only waited for when {@link #totalElements()} or
+ * {@link #totalPages()} is invoked.</p>
+ *
+ * <p>If the count completes exceptionally, the exception is raised by the
+ * method that waits for it. If the count is cancelled, the total is treated
+ * as not available.</p>
+ *
+ * @param pageRequest The {@link PageRequest page request} for which this
+ *                    page was obtained
+ * @param content The page content
+ * @param total The pending total number of elements across all pages that
+ *              can be requested for the query, or {@code null} if the
+ *              {@code pageRequest} does not {@linkplain PageRequest#requestTotal()
+ *              request a total}. A negative value indicates that a total count
+ *              of elements and pages is not available.
+ * @param moreResults whether there is a (nonempty) next page of results
+ * @param <T> The type of elements on the page
+ */
+public record AsyncTotalPageRecord<T>(PageRequest<T> pageRequest, List<T> content, CompletionStage<Long> total,
+                                      boolean moreResults)
+        implements Page<T> {
+
+    /**
+     * Constructs a new instance, computing the {@link #moreResults}
+     * component as {@code true} if the page {@code content} is a full
+     * page of results. The total is not waited for.
+     *
+     * @param pageRequest The {@link PageRequest page request} for which
+     *                    this page was obtained.
+     * @param content     The page content.
+     * @param total       The pending total number of elements across all
+     *                    pages that can be requested for the query, or
+     *                    {@code null} if a total is not requested.
+     */
+    public AsyncTotalPageRecord(PageRequest<T> pageRequest, List<T> content, CompletionStage<Long> total) {
+        this(pageRequest, content, total, content.size() == pageRequest.size());
+    }
+
+    /**
+     * Returns a stage that completes with the pending total number of
+     * elements. The stage is a dependent of the total that was supplied
+     * to the constructor, so completing it, or the {@code CompletableFuture}
+     * obtained from it, does not change the total of this page.
+     *
+     * @return the pending total, or {@code null} if a total is not requested.
+     */
+    @Override
+    public CompletionStage<Long> total() {
+        return total == null ? null : total.thenApply(Function.identity());
+    }
+
+    @Override
+    public boolean hasContent() {
+        return !content.isEmpty();
+    }
+
+    @Override
+    public int numberOfElements() {
+        return content.size();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return moreResults;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <E> PageRequest<E> pageRequest(Class<E> entityClass) {
+        return (PageRequest<E>) pageRequest;
+    }
+
+    @Override
+    public PageRequest<T> nextPageRequest() {
+        if ( !hasNext() )
+            throw new NoSuchElementException();
+        return pageRequest.next();
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return pageRequest.page() > 1;
+    }
+
+    @Override
+    public PageRequest<T> previousPageRequest() {
+        if ( !hasPrevious() )
+            throw new NoSuchElementException();
+        return pageRequest.previous();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <E> PageRequest<E> previousPageRequest(Class<E> entityClass) {
+        return (PageRequest<E>) previousPageRequest();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <E> PageRequest<E> nextPageRequest(Class<E> entityClass) {
+        return (PageRequest<E>) nextPageRequest();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return content.iterator();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return ContentSpliterator.of(content);
+    }
+
+    /**
+     * Returns {@code true} if a total was requested. This method does not
+     * wait for the total to be computed, and so it does not detect a total
+     * that turns out to be unavailable, in which case {@link #totalElements()}
+     * raises {@link IllegalStateException}.
+     *
+     * @return {@code true} if totals were requested.
+     */
+    @Override
+    public boolean hasTotals() {
+        return total != null;
+    }
+
+    /**
+     * Waits for and returns the total number of elements.
+     *
+     * @return the total number of elements across all pages.
+     * @throws IllegalStateException if the total is not available,
+     *         including when the count is cancelled.
+     */
+    @Override
+    public long totalElements() {
+        long totalElements = join();
+        if (totalElements<0) {
+            throw new IllegalStateException("total elements are not available");
+        }
+        return totalElements;
+    }
+
+    /**
+     * Waits for the total number of elements and computes the total number of pages.
+     *
+     * @return the total number of pages.
+     * @throws IllegalStateException if the total is not available.
+     */
+    @Override
+    public long totalPages() {
+        int size = pageRequest.size();
+        return (totalElements() + size - 1) / size;
+    }
+
+    private long join() {
+        if (total == null) {
+            throw new IllegalStateException("total elements are not available");
+        }
+        try {
+            Long totalElements = total.toCompletableFuture().join();
+            return totalElements == null ? -1 : totalElements;
+        } catch (CancellationException x) {
+            throw new IllegalStateException("total elements are not available because the count was cancelled", x);
+        } catch (CompletionException x) {
+            Throwable cause = x.getCause();
+            if (cause instanceof CancellationException) {
+                throw new IllegalStateException("total elements are not available because the count was cancelled", cause);
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw x;
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import jakarta.data.page.PageRequest;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * <p>Bounded, least-recently-used cache of page boundary cursors, which a
+ * repository implementation can use to retrieve offset-paginated pages for
+ * which {@link PageRequest#keysetSeek()} is enabled by seeking from a
+ * keyset rather than skipping all preceding results.</p>
+ *
+ * <p>After retrieving a page with offset pagination, the repository
+ * implementation {@linkplain #put(Object, PageRequest, PageRequest.Cursor)
+ * records} the keyset cursor of the last result on the page. Before
+ * retrieving a page, it obtains a {@linkplain #seek(Object, PageRequest) seek}
+ * from the nearest preceding recorded boundary, if any, and runs the query
+ * with the {@link Seek#cursor() cursor} as it would for
+ * {@link PageRequest.Mode#CURSOR_NEXT}, skipping {@link Seek#skip()} results
+ * rather than the results of every preceding page.</p>
+ *
+ * <p>Boundaries are grouped by a query key that the repository implementation
+ * supplies, such as the repository method and its arguments, along with the
+ * {@linkplain PageRequest#shape() shape} and {@linkplain PageRequest#size() size}
+ * of the page request. Boundaries are only used for page requests in the same
+ * group.</p>
+ *
+ * <p>This class is safe for use by multiple threads.</p>
+ */
+public final class BoundaryCursorCache {
+
+    /**
+     * A keyset position from which to retrieve a requested page.
+     *
+     * @param boundaryPage the page number of the page whose last result
+     *                     is identified by the cursor.
+     * @param cursor       the keyset cursor of the last result of the boundary page.
+     * @param skip         the number of results after the cursor that
+     *                     precede the requested page.
+     */
+    public record Seek(long boundaryPage, PageRequest.Cursor cursor, long skip) {
+    }
+
+    private record Group(Object query, PageRequest.Shape shape, int size) {
+    }
+
+    private record Boundary(Group group, long page) {
+    }
+
+    private final int maxEntries;
+
+    private final LinkedHashMap<Boundary, PageRequest.Cursor> lru;
+
+    private final Map<Group, TreeMap<Long, PageRequest.Cursor>> groups = new HashMap<>();
+
+    /**
+     * Constructs a cache that retains up to the given number of boundaries.
+     *
+     * @param maxEntries maximum number of boundaries to retain.
+     * @throws IllegalArgumentException if the maximum is less than 1.
+     */
+    public BoundaryCursorCache(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+        this.lru = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Removes all boundaries, for example, after results are added or removed.
+     */
+    public synchronized void clear() {
+        lru.clear();
+        groups.clear();
+    }
+
+    /**
+     * Records the keyset cursor of the last result of the requested page.
+     * Only page requests that use {@linkplain PageRequest.Mode#OFFSET offset pagination}
+     * and enable {@linkplain PageRequest#keysetSeek() keyset seek} are recorded.
+     *
+     * @param query       key that identifies the query, such as the repository method and its arguments.
+     * @param pageRequest the request for the page that was retrieved.
+     * @param lastCursor  the keyset cursor of the last result of the page.
+     */
+    public synchronized void put(Object query, PageRequest<?> pageRequest, PageRequest.Cursor lastCursor) {
+        Objects.requireNonNull(lastCursor, "lastCursor is required");
+        if (!pageRequest.keysetSeek() || pageRequest.mode() != PageRequest.Mode.OFFSET) {
+            return;
+        }
+
+        Group group = new Group(query, pageRequest.shape(), pageRequest.size());
+        lru.put(new Boundary(group, pageRequest.page()), lastCursor);
+        groups.computeIfAbsent(group, g -> new TreeMap<>()).put(pageRequest.page(), lastCursor);
+
+        if (lru.size() > maxEntries) {
+            Iterator<Boundary> eldest = lru.keySet().iterator();
+            Boundary boundary = eldest.next();
+            eldest.remove();
+            TreeMap<Long, PageRequest.Cursor> pages = groups.get(boundary.group());
+            pages.remove(boundary.page());
+            if (pages.isEmpty()) {
+                groups.remove(boundary.group());
+            }
+        }
+    }
+
+    /**
+     * Obtains the position from which to retrieve the requested page, based on
+     * the nearest recorded boundary that precedes it.
+     *
+     * @param query       key that identifies the query, such as the repository method and its arguments.
+     * @param pageRequest the request for the page that is to be retrieved.
+     * @return the position from which to retrieve the page; {@link Optional#empty()}
+     *         if the page request does not use offset pagination with keyset seek enabled,
+     *         requests the first page, or follows no recorded boundary.
+     */
+    public synchronized Optional<Seek> seek(Object query, PageRequest<?> pageRequest) {
+        if (!pageRequest.keysetSeek()
+                || pageRequest.mode() != PageRequest.Mode.OFFSET
+                || pageRequest.page() == 1) {
+            return Optional.empty();
+        }
+
+        Group group = new Group(query, pageRequest.shape(), pageRequest.size());
+        TreeMap<Long, PageRequest.Cursor> pages = groups.get(group);
+        Map.Entry<Long, PageRequest.Cursor> nearest = pages == null ? null : pages.floorEntry(pageRequest.page() - 1);
+        if (nearest == null) {
+            return Optional.empty();
+        }
+
+        long boundaryPage = nearest.getKey();
+        lru.get(new Boundary(group, boundaryPage));
+        long skip = (pageRequest.page() - 1 - boundaryPage) * pageRequest.size();
+        return Optional.of(new Seek(boundaryPage, nearest.getValue(), skip));
+    }
+
+    /**
+     * Returns the number of boundaries that are currently retained.
+     *
+     * @return the number of boundaries.
+     */
+    public synchronized int size() {
+        return lru.size();
+    }
+}
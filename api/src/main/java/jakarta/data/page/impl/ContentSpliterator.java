@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over the content of a page. For random access lists, it
+ * splits by index range and reports its exact size, so that streams of
+ * page content can presize arrays and divide work evenly when run in
+ * parallel. The content list is supplied by the provider and is not
+ * copied, so the spliterator does not report {@link #IMMUTABLE}.
+ */
+final class ContentSpliterator<T> implements Spliterator<T> {
+    private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED;
+
+    private final List<T> content;
+    private int index;
+    private final int end;
+
+    private ContentSpliterator(List<T> content, int index, int end) {
+        this.content = content;
+        this.index = index;
+        this.end = end;
+    }
+
+    /**
+     * Obtains a spliterator over the content of a page.
+     *
+     * @param content the page content.
+     * @param <T>     the type of elements on the page.
+     * @return a spliterator over the content.
+     */
+    static <T> Spliterator<T> of(List<T> content) {
+        return content instanceof RandomAccess
+                ? new ContentSpliterator<>(content, 0, content.size())
+                : Spliterators.spliterator(content, CHARACTERISTICS);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (index < end) {
+            action.accept(content.get(index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        for (int i = index; i < end; i++) {
+            action.accept(content.get(i));
+        }
+        index = end;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        int mid = (index + end) >>> 1;
+        if (mid <= index) {
+            return null;
+        }
+        Spliterator<T> prefix = new ContentSpliterator<>(content, index, mid);
+        index = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
@@ -23,6 +23,7 @@ import jakarta.data.page.PageRequest;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 
 /**
  * Record type implementing {@link CursoredPage}.
@@ -46,6 +47,88 @@ public record CursoredPageRecord<T>
          PageRequest<T> nextPageRequest, PageRequest<T> previousPageRequest)
         implements CursoredPage<T> {
 
+    /**
+     * <p>Creates a page from query results that were fetched with a limit of
+     * one more than the {@linkplain PageRequest#size() page size}, computing
+     * the next and previous page requests from the cursors of the last and
+     * first results on the page.</p>
+     *
+     * <p>The extra result, if present, is excluded from the page content.
+     * When paging forward, it is the last result and shows that there is
+     * a next page. When paging backward with
+     * {@link PageRequest.Mode#CURSOR_PREVIOUS}, it is the first result and
+     * shows that there is a previous page. The next page is numbered one more
+     * than the page number of the page request, and the previous page is
+     * numbered one less, but no less than {@code 1}. The total number of
+     * elements is supplied to the next and previous page requests as described
+     * by {@link #of(List, List, long, PageRequest, PageRequest, PageRequest)}.</p>
+     *
+     * @param fetched Up to {@code pageRequest.size() + 1} query results, in order
+     * @param cursors A list of {@link PageRequest.Cursor} instances for each
+     *                fetched result, in order
+     * @param totalElements The total number of elements across all pages that
+     *                      can be requested for the query, or a negative
+     *                      value if it is not available
+     * @param pageRequest The {@link PageRequest page request} for which this
+     *                    slice was obtained
+     * @param <T> The type of elements on the page
+     * @return the page.
+     * @throws IllegalArgumentException if more than {@code pageRequest.size() + 1}
+     *                                  results are supplied, or if the number
+     *                                  of cursors differs from the number of results.
+     */
+    public static <T> CursoredPageRecord<T> ofLookahead(List<T> fetched, List<PageRequest.Cursor> cursors,
+                                                        long totalElements, PageRequest<T> pageRequest) {
+        if (cursors.size() != fetched.size()) {
+            throw new IllegalArgumentException("Supplied " + cursors.size() + " cursors for " +
+                    fetched.size() + " results.");
+        }
+        List<T> content = Lookahead.content(fetched, pageRequest);
+        List<PageRequest.Cursor> pageCursors = Lookahead.content(cursors, pageRequest);
+        boolean hasNext = Lookahead.hasNext(fetched, pageRequest) && !content.isEmpty();
+        boolean hasPrevious = Lookahead.hasPrevious(fetched, pageRequest) && !content.isEmpty();
+        return of(content, pageCursors, totalElements, pageRequest,
+                hasNext
+                        ? pageRequest.page(pageRequest.page() + 1)
+                                     .afterKeysetCursor(pageCursors.get(pageCursors.size() - 1))
+                        : null,
+                hasPrevious
+                        ? pageRequest.page(Math.max(1, pageRequest.page() - 1))
+                                     .beforeKeysetCursor(pageCursors.get(0))
+                        : null);
+    }
+
+    /**
+     * Creates a page. If the total number of elements is available and the
+     * next and previous page requests request an exact total, the total is
+     * supplied as their {@linkplain PageRequest#knownTotal() known total},
+     * so that it need not be retrieved again for those pages. Unlike the
+     * canonical constructor, the page might therefore hold page requests
+     * that differ from the ones that are supplied.
+     *
+     * @param content The page content, that is, the query results, in order
+     * @param cursors A list of {@link PageRequest.Cursor} instances for result,
+     *                in order
+     * @param totalElements The total number of elements across all pages that
+     *                      can be requested for the query, or a negative
+     *                      value if it is not available
+     * @param pageRequest The {@link PageRequest page request} for which this
+     *                    slice was obtained
+     * @param nextPageRequest A {@link PageRequest page request} for the next
+     *                        page of results
+     * @param previousPageRequest A {@link PageRequest page request} for the
+     *                            previous page of results
+     * @param <T> The type of elements on the page
+     * @return the page.
+     */
+    public static <T> CursoredPageRecord<T> of(List<T> content, List<PageRequest.Cursor> cursors,
+                                               long totalElements, PageRequest<T> pageRequest,
+                                               PageRequest<T> nextPageRequest, PageRequest<T> previousPageRequest) {
+        return new CursoredPageRecord<>(content, cursors, totalElements, pageRequest,
+                KnownTotal.supply(nextPageRequest, totalElements),
+                KnownTotal.supply(previousPageRequest, totalElements));
+    }
+
     @Override
     public boolean hasContent() {
         return !content.isEmpty();
@@ -103,6 +186,11 @@ public record CursoredPageRecord<T>
         return content.iterator();
     }
 
+    @Override
+    public Spliterator<T> spliterator() {
+        return ContentSpliterator.of(content);
+    }
+
     @Override
     public PageRequest.Cursor getKeysetCursor(int index) {
         return cursors.get(index);
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import jakarta.data.page.PageRequest;
+
+/**
+ * Supplies the total number of elements of a page to the page requests for
+ * adjacent pages, so that providers need not retrieve it again.
+ */
+final class KnownTotal {
+
+    private KnownTotal() {
+    }
+
+    /**
+     * Supplies the total to a page request that requests an exact total, with the
+     * {@link PageRequest.TotalMode#EXACT EXACT} or {@link PageRequest.TotalMode#INLINE INLINE}
+     * total mode, unless the total is unavailable or is already the known total of the
+     * page request. An estimated or capped total is never supplied, because it would
+     * then be treated as the exact total on later pages. A page request that does
+     * not support known totals is returned unchanged.
+     *
+     * @return the page request with the known total; {@code null} if the page request is {@code null}.
+     */
+    static <T> PageRequest<T> supply(PageRequest<T> pageRequest, long totalElements) {
+        if (pageRequest == null
+                || totalElements < 0
+                || pageRequest.totalMode() != PageRequest.TotalMode.EXACT
+                        && pageRequest.totalMode() != PageRequest.TotalMode.INLINE
+                || pageRequest.knownTotal().orElse(-1) == totalElements) {
+            return pageRequest;
+        }
+        try {
+            return pageRequest.withKnownTotal(totalElements);
+        } catch (UnsupportedOperationException x) {
+            return pageRequest;
+        }
+    }
+}
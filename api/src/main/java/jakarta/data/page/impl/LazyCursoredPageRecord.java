@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.PageRequest;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Function;
+
+/**
+ * Record type implementing {@link CursoredPage} which computes the
+ * {@link PageRequest.Cursor keyset cursor} of each result on demand,
+ * rather than requiring a list with a cursor for every result, as
+ * {@link CursoredPageRecord} does. Only the cursors of the first and
+ * last results are retained, within the previous and next page requests.
+ * This may be used to simplify implementation of a repository interface.
+ *
+ * @param content The page content, that is, the query results, in order
+ * @param cursorExtractor A function that computes the
+ *                        {@link PageRequest.Cursor} of a result
+ * @param totalElements The total number of elements across all pages that
+ *                      can be requested for the query
+ * @param pageRequest The {@link PageRequest page request} for which this
+ *                    slice was obtained
+ * @param nextPageRequest A {@link PageRequest page request} for the next
+ *                        page of results
+ * @param previousPageRequest A {@link PageRequest page request} for the
+ *                            previous page of results
+ * @param <T> The type of elements on the page
+ */
+public record LazyCursoredPageRecord<T>
+        (List<T> content, Function<? super T, PageRequest.Cursor> cursorExtractor, long totalElements,
+         PageRequest<T> pageRequest, PageRequest<T> nextPageRequest, PageRequest<T> previousPageRequest)
+        implements CursoredPage<T> {
+
+    /**
+     * Constructs a page, computing the next and previous page requests from
+     * the cursors of the last and first results on the page.
+     * The next page is numbered one more than the page number of the page
+     * request, and the previous page is numbered one less, but no less
+     * than {@code 1}. If the total number of elements is available and the
+     * page request requests an exact total, the total is supplied as the
+     * {@linkplain PageRequest#knownTotal() known total} of the next and
+     * previous page requests, so that it need not be retrieved again for
+     * those pages.
+     *
+     * @param content The page content, that is, the query results, in order
+     * @param cursorExtractor A function that computes the
+     *                        {@link PageRequest.Cursor} of a result
+     * @param totalElements The total number of elements across all pages that
+     *                      can be requested for the query, or a negative
+     *                      value if it is not available
+     * @param pageRequest The {@link PageRequest page request} for which this
+     *                    slice was obtained
+     * @param hasNext whether there is known to be, or might be, a next page
+     * @param hasPrevious whether there is known to be, or might be, a previous page
+     */
+    public LazyCursoredPageRecord(List<T> content, Function<? super T, PageRequest.Cursor> cursorExtractor,
+                                  long totalElements, PageRequest<T> pageRequest,
+                                  boolean hasNext, boolean hasPrevious) {
+        this(content, cursorExtractor, totalElements, pageRequest,
+             hasNext && !content.isEmpty()
+                     ? KnownTotal.supply(pageRequest.page(pageRequest.page() + 1)
+                                  .afterKeysetCursor(cursorExtractor.apply(content.get(content.size() - 1))), totalElements)
+                     : null,
+             hasPrevious && !content.isEmpty()
+                     ? KnownTotal.supply(pageRequest.page(Math.max(1, pageRequest.page() - 1))
+                                  .beforeKeysetCursor(cursorExtractor.apply(content.get(0))), totalElements)
+                     : null);
+    }
+
+    /**
+     * Creates a page from query results that were fetched with a limit of
+     * one more than the {@linkplain PageRequest#size() page size}, as described
+     * by {@link CursoredPageRecord#ofLookahead(List, List, long, PageRequest)}.
+     *
+     * @param fetched Up to {@code pageRequest.size() + 1} query results, in order
+     * @param cursorExtractor A function that computes the
+     *                        {@link PageRequest.Cursor} of a result
+     * @param totalElements The total number of elements across all pages that
+     *                      can be requested for the query, or a negative
+     *                      value if it is not available
+     * @param pageRequest The {@link PageRequest page request} for which this
+     *                    slice was obtained
+     * @param <T> The type of elements on the page
+     * @return the page.
+     * @throws IllegalArgumentException if more than {@code pageRequest.size() + 1}
+     *                                  results are supplied.
+     */
+    public static <T> LazyCursoredPageRecord<T> ofLookahead(List<T> fetched,
+                                                            Function<? super T, PageRequest.Cursor> cursorExtractor,
+                                                            long totalElements, PageRequest<T> pageRequest) {
+        return new LazyCursoredPageRecord<>(Lookahead.content(fetched, pageRequest), cursorExtractor,
+                totalElements, pageRequest,
+                Lookahead.hasNext(fetched, pageRequest),
+                Lookahead.hasPrevious(fetched, pageRequest));
+    }
+
+    @Override
+    public boolean hasContent() {
+        return !content.isEmpty();
+    }
+
+    @Override
+    public int numberOfElements() {
+        return content.size();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextPageRequest != null;
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return previousPageRequest != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <E> PageRequest<E> pageRequest(Class<E> entityClass) {
+        return (PageRequest<E>) pageRequest;
+    }
+
+    @Override
+    public PageRequest<T> nextPageRequest() {
+        if (nextPageRequest == null)
+            throw new NoSuchElementException();
+        return nextPageRequest;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <E> PageRequest<E> nextPageRequest(Class<E> entityClass) {
+        return (PageRequest<E>) nextPageRequest();
+    }
+
+    @Override
+    public PageRequest<T> previousPageRequest() {
+        if (previousPageRequest == null)
+            throw new NoSuchElementException();
+        return previousPageRequest;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <E> PageRequest<E> previousPageRequest(Class<E> entityClass) {
+        return (PageRequest<E>) previousPageRequest();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return content.iterator();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return ContentSpliterator.of(content);
+    }
+
+    @Override
+    public PageRequest.Cursor getKeysetCursor(int index) {
+        T result = content.get(index);
+        if (index == 0 && previousPageRequest != null && previousPageRequest.mode() == PageRequest.Mode.CURSOR_PREVIOUS) {
+            return previousPageRequest.cursor().orElseThrow();
+        } else if (index == content.size() - 1 && nextPageRequest != null && nextPageRequest.mode() == PageRequest.Mode.CURSOR_NEXT) {
+            return nextPageRequest.cursor().orElseThrow();
+        } else {
+            return cursorExtractor.apply(result);
+        }
+    }
+
+    @Override
+    public boolean hasTotals() {
+        return totalElements >= 0;
+    }
+
+    @Override
+    public long totalElements() {
+        if (totalElements<0) {
+            throw new IllegalStateException("total elements are not available");
+        }
+        return totalElements;
+    }
+
+    @Override
+    public long totalPages() {
+        if (totalElements<0) {
+            throw new IllegalStateException("total elements are not available");
+        }
+        int size = pageRequest.size();
+        return (totalElements + size - 1) / size;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import jakarta.data.page.PageRequest;
+
+import java.util.List;
+
+/**
+ * Computes the content and the existence of adjacent pages from query results
+ * that were fetched with a limit of one more than the page size. The extra
+ * result, if present, proves that another page exists without requiring a
+ * separate query. It is the last result when paging forward, and the first
+ * result when paging backward with {@link PageRequest.Mode#CURSOR_PREVIOUS},
+ * because results are always supplied in the order of the sort criteria.
+ */
+final class Lookahead {
+
+    private Lookahead() {
+    }
+
+    /**
+     * Returns the content of the page, excluding the extra result.
+     *
+     * @throws IllegalArgumentException if more than one extra result was fetched.
+     */
+    static <E> List<E> content(List<E> fetched, PageRequest<?> pageRequest) {
+        int size = pageRequest.size();
+        int count = fetched.size();
+        if (count <= size) {
+            return fetched;
+        } else if (count > size + 1) {
+            throw new IllegalArgumentException("Fetched " + count + " results for a page of size " + size +
+                    ". Fetch no more than one result beyond the page size.");
+        } else if (pageRequest.mode() == PageRequest.Mode.CURSOR_PREVIOUS) {
+            return fetched.subList(1, count);
+        } else {
+            return fetched.subList(0, size);
+        }
+    }
+
+    /**
+     * Returns whether there is a next page. When paging backward, the page that
+     * was previously traversed is assumed to follow.
+     */
+    static boolean hasNext(List<?> fetched, PageRequest<?> pageRequest) {
+        return pageRequest.mode() == PageRequest.Mode.CURSOR_PREVIOUS || fetched.size() > pageRequest.size();
+    }
+
+    /**
+     * Returns whether there is a previous page. When paging forward, a page
+     * that is obtained after a cursor or that is beyond the first page is
+     * assumed to be preceded by another.
+     */
+    static boolean hasPrevious(List<?> fetched, PageRequest<?> pageRequest) {
+        switch (pageRequest.mode()) {
+            case CURSOR_PREVIOUS:
+                return fetched.size() > pageRequest.size();
+            case CURSOR_NEXT:
+                return true;
+            default:
+                return pageRequest.page() > 1;
+        }
+    }
+}
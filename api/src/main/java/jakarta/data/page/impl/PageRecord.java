@@ -23,6 +23,7 @@ import jakarta.data.page.PageRequest;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 
 /**
  * Record type implementing {@link Page}.
@@ -47,7 +48,9 @@ public record PageRecord<T>(PageRequest<T> pageRequest, List<T> content, long to
      * page of results and the {@code totalElements} is either unavailable
      * (indicated by a negative value) or it exceeds the current
      * {@linkplain PageRequest#page() page number} multiplied by the
-     * {@link PageRequest#size() size} of a full page.
+     * {@link PageRequest#size() size} of a full page. A total that is
+     * {@linkplain Page#totalElementsIsExact() not exact} is treated as
+     * unavailable when computing the {@link #moreResults} component.
      *
      * @param pageRequest   The {@link PageRequest page request} for which
      *                      this page was obtained.
@@ -60,10 +63,55 @@ public record PageRecord<T>(PageRequest<T> pageRequest, List<T> content, long to
     public PageRecord(PageRequest<T> pageRequest, List<T> content, long totalElements) {
         this( pageRequest, content, totalElements,
                 content.size() == pageRequest.size()
-                        && (totalElements < 0
+                        && (!isExact(pageRequest, totalElements)
                                 || totalElements > pageRequest.size() * pageRequest.page() ));
     }
 
+    /**
+     * <p>Creates a page from query results that were fetched with a limit of
+     * one more than the {@linkplain PageRequest#size() page size}. If the extra
+     * result is present, it is excluded from the page content and the page
+     * {@linkplain #hasNext() has a next page}. Otherwise, the page is the
+     * last page. Unlike {@link #PageRecord(PageRequest, List, long)}, the
+     * {@link #moreResults} component is therefore exact, even when the
+     * total is not requested and the last page is full.</p>
+     *
+     * @param pageRequest   The {@link PageRequest page request} for which
+     *                      this page was obtained.
+     * @param fetched       Up to {@code pageRequest.size() + 1} query results.
+     * @param totalElements The total number of elements across all pages
+     *                      that can be requested for the query. A negative
+     *                      value indicates that a total count of elements
+     *                      and pages is not available.
+     * @param <T>           The type of elements on the page.
+     * @return the page.
+     * @throws IllegalArgumentException if more than {@code pageRequest.size() + 1}
+     *                                  results are supplied.
+     */
+    public static <T> PageRecord<T> ofLookahead(PageRequest<T> pageRequest, List<T> fetched, long totalElements) {
+        return new PageRecord<>(pageRequest, Lookahead.content(fetched, pageRequest), totalElements,
+                fetched.size() > pageRequest.size());
+    }
+
+    /**
+     * Determines whether the total is an exact count that can be relied upon
+     * to compute whether there are more results.
+     */
+    private static boolean isExact(PageRequest<?> pageRequest, long totalElements) {
+        if (totalElements < 0) {
+            return false;
+        }
+        switch (pageRequest.totalMode()) {
+            case EXACT:
+            case INLINE:
+                return true;
+            case CAPPED:
+                return totalElements < pageRequest.totalCap();
+            default:
+                return false;
+        }
+    }
+
     @Override
     public boolean hasContent() {
         return !content.isEmpty();
@@ -121,6 +169,11 @@ public record PageRecord<T>(PageRequest<T> pageRequest, List<T> content, long to
         return content.iterator();
     }
 
+    @Override
+    public Spliterator<T> spliterator() {
+        return ContentSpliterator.of(content);
+    }
+
     @Override
     public boolean hasTotals() {
         return totalElements >= 0;
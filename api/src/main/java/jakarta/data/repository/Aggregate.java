@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.repository;
+
+/**
+ * <p>Function that the database computes over the values of an entity attribute
+ * across the results of a query, which is requested by {@link Select#aggregate()}.</p>
+ *
+ * <p>The value of an aggregate function is computed by the database rather than
+ * by retrieving the entities. Aggregate functions other than {@link #COUNT} ignore
+ * {@code null} attribute values. When the method is also annotated {@link GroupBy},
+ * the value is computed separately for each group of results.</p>
+ */
+public enum Aggregate {
+    /**
+     * No aggregate function. The value of the attribute is returned for each result.
+     * This is the default.
+     */
+    NONE,
+
+    /**
+     * The number of results, or, when an entity attribute is selected, the number
+     * of results for which the attribute value is not {@code null}. The repository
+     * method returns {@code long} or {@code int}.
+     */
+    COUNT,
+
+    /**
+     * The sum of the values of a numeric attribute, which is {@code 0} if there are
+     * no values. The repository method returns {@code long} or {@code int} for
+     * an integral attribute, or {@code double} for any numeric attribute.
+     */
+    SUM,
+
+    /**
+     * The average of the values of a numeric attribute. The repository method
+     * returns {@code double}.
+     */
+    AVG,
+
+    /**
+     * The smallest value of a sortable attribute. The repository method
+     * returns the attribute type.
+     */
+    MIN,
+
+    /**
+     * The largest value of a sortable attribute. The repository method
+     * returns the attribute type.
+     */
+    MAX
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Annotates a parameter of a repository {@link Update} method to specify the
+ * name of an entity attribute to which the parameter value is assigned.</p>
+ *
+ * <p>Example usage for a {@code Product} entity with attributes
+ * {@code id}, {@code name}, {@code status}, and {@code price}:</p>
+ *
+ * <pre>
+ * &#64;Repository
+ * public interface Products extends BasicRepository&lt;Product, Long&gt; {
+ *
+ *     &#64;Update
+ *     boolean discontinue(&#64;By("id") long id,
+ *                         &#64;Assign("status") Status status);
+ * }
+ * ...
+ * products.discontinue(id, Status.DISCONTINUED);
+ * </pre>
+ *
+ * <p>Only the attributes that are named by {@code Assign} annotations, along with
+ * the version of a versioned entity, are written to the database. Refer to
+ * {@link Update} for the rules that apply to partial updates.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface Assign {
+
+    /**
+     * The name of the entity attribute to which to assign the parameter value.
+     *
+     * @return the entity attribute name.
+     */
+    String value();
+}
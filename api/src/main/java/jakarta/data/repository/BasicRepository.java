@@ -155,6 +155,12 @@ public interface BasicRepository<T, K> extends DataRepository<T, K> {
     /**
      * Retrieves all persistent entities of the specified type from the database.
      *
+     * <p>For entities with a numeric Id, the Jakarta Data provider may return a stream
+     * that splits by ranges of Id values, such as with
+     * {@link jakarta.data.page.Page#streamKeyRanges Page.streamKeyRanges}, so that a
+     * {@linkplain Stream#parallel() parallel} stream retrieves each range with a
+     * separate query. Otherwise, a parallel stream is fed by a single query.</p>
+     *
      * @return a stream of all entities; will never be {@code null}.
      * @throws UnsupportedOperationException  for Key-Value and Wide-Column databases that are not capable
      * of the {@code findAll} operation.
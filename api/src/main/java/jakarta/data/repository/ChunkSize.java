@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * <p>Annotates a repository find method to specify the number of results
+ * in each chunk of results that the method returns, or a repository
+ * {@link Insert} or {@link Save} method to specify the number of entities
+ * that are written to the database in each batch.</p>
+ *
+ * <p>A find method with the return type {@code Stream<List<E>>} returns
+ * results in chunks, where each {@link List} has the number of results
+ * specified by the {@code ChunkSize} annotation, except for the final chunk,
+ * which can have fewer. Chunks are returned in the order of the results of
+ * the query, and no chunk is ever empty. The Jakarta Data provider retrieves
+ * and maps the results of each chunk together, for example, by aligning the
+ * JDBC fetch size with the chunk size, rather than handing over results one
+ * at a time. For example,</p>
+ *
+ * <pre>
+ * &#64;ChunkSize(1000)
+ * &#64;OrderBy("name")
+ * {@code Stream<List<Product>>} findByPriceLessThanEqual(double maxPrice);
+ *
+ * ...
+ * try ({@code Stream<List<Product>>} chunks = products.findByPriceLessThanEqual(9.99)) {
+ *     chunks.forEach(exporter::write);
+ * }
+ * </pre>
+ *
+ * <p>If a find method with the return type {@code Stream<List<E>>} is not
+ * annotated {@code ChunkSize}, the Jakarta Data provider determines the
+ * number of results in each chunk.</p>
+ *
+ * <p>When a find method with the return type {@link Stream Stream&lt;E&gt;}
+ * is annotated {@code ChunkSize}, the chunk size is a hint for the number of
+ * results to retrieve from the database at a time, and has no effect on the
+ * results that the method returns.</p>
+ *
+ * <p>An {@code Insert} or {@code Save} method whose parameter is of type
+ * {@code Stream<E>} or {@link java.util.Iterator Iterator&lt;E&gt;} consumes the
+ * entities in chunks of the specified size, writing each chunk to the database
+ * as a single batch before consuming the next, so that the number of entities
+ * that are held in memory does not depend on the number of entities that are
+ * supplied. For example,</p>
+ *
+ * <pre>
+ * &#64;Insert
+ * &#64;ChunkSize(500)
+ * long addAll({@code Stream<Product>} products);
+ * </pre>
+ *
+ * <p>If such a method is not annotated {@code ChunkSize}, the Jakarta Data
+ * provider determines the number of entities in each batch.</p>
+ *
+ * <p>A repository method will fail if it is annotated {@code ChunkSize} and it
+ * is neither a find method with the return type {@code Stream<E>} or
+ * {@code Stream<List<E>>}, nor an {@code Insert} or {@code Save} method with a
+ * parameter of type {@code Stream<E>} or {@code Iterator<E>}.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ChunkSize {
+    /**
+     * The number of results or entities in each chunk, which must be at least 1.
+     *
+     * @return the number of results or entities in each chunk.
+     */
+    int value();
+}
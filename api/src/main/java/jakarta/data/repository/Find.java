@@ -52,10 +52,34 @@ import java.lang.annotation.Target;
  *     <li>{@code Optional<E>}, when the method returns at most a single instance,</li>
  *     <li>an entity array type {@code E[]},
  *     <li>{@code List<E>},</li>
- *     <li>{@code Stream<E>}, or</li>
+ *     <li>{@code Stream<E>},</li>
+ *     <li>{@code Stream<List<E>>}, which returns results in chunks, as described by {@link ChunkSize}, or</li>
  *     <li>{@code Page<E>} or {@code CursoredPage<E>}.</li>
  * </ul>
  *
+ * <p>A method annotated with {@code @Find} can also be annotated {@link Select} to return the value of a single entity
+ * attribute in place of each entity, including as a primitive array or primitive stream.</p>
+ *
+ * <p>A method annotated with {@code @Find} can also return a Java record type {@code R} in place of the entity type
+ * {@code E} in any of the above return types, where each record component names an entity attribute, or is annotated
+ * {@link Select} with the name of an entity attribute. The Jakarta Data provider retrieves only the attributes that are
+ * named by the record components, rather than entire entities, and constructs a record from each result. The name of
+ * an embedded attribute is delimited by {@code .}. For example, for a {@code Product} entity with attributes
+ * {@code id}, {@code name}, {@code description}, and {@code price},</p>
+ * <pre>
+ * public record ProductLabel(long id, {@code @Select("name")} String title, double price) {
+ * }
+ *
+ * {@code @Repository}
+ * interface Products extends {@code DataRepository<Product, Long>} {
+ *     {@code @Find}
+ *     {@code List<ProductLabel>} labelsFor(@By("description") String description);
+ * }
+ * </pre>
+ * <p>The entity type is determined by the primary entity type of the repository. A method that returns a record
+ * projection fails if a record component does not correspond to an entity attribute, or if its type cannot be
+ * assigned from the type of the entity attribute.</p>
+ *
  * <p>If the return type of the annotated method is {@code E} or {@code Optional<E>}, and the query returns more than
  * one element when executed, the method must throw {@link jakarta.data.exceptions.NonUniqueResultException}.
  * </p>
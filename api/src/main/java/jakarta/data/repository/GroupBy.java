@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Annotates a repository {@link Find} method that computes an {@link Aggregate}
+ * to request that the aggregate is computed separately for each group of results
+ * that have the same values of the specified entity attributes.</p>
+ *
+ * <p>The method returns one of the following:</p>
+ * <ul>
+ * <li>{@code Map<K, V>}, where {@code K} is the type of the single grouping attribute
+ *     and {@code V} is the type of the aggregate value that is requested by the
+ *     {@link Select} annotation on the method, or</li>
+ * <li>{@code List<R>} or {@code Stream<R>}, where {@code R} is a Java record with a
+ *     component for each grouping attribute and a component for each aggregate value,
+ *     which is annotated {@link Select} with an {@link Select#aggregate() aggregate}.</li>
+ * </ul>
+ *
+ * <p>For example, for a {@code Product} entity with attributes {@code name},
+ * {@code category}, and {@code price},</p>
+ *
+ * <pre>
+ * public record CategoryPrices(String category,
+ *                              &#64;Select(aggregate = Aggregate.COUNT) long products,
+ *                              &#64;Select(value = "price", aggregate = Aggregate.AVG) double averagePrice) {
+ * }
+ *
+ * &#64;Repository
+ * public interface Products extends BasicRepository&lt;Product, Long&gt; {
+ *
+ *     &#64;Find
+ *     &#64;GroupBy("category")
+ *     &#64;Select(value = "price", aggregate = Aggregate.MAX)
+ *     Map&lt;String, Double&gt; highestPrices();
+ *
+ *     &#64;Find
+ *     &#64;GroupBy("category")
+ *     &#64;OrderBy("category")
+ *     List&lt;CategoryPrices&gt; categoryPrices();
+ * }
+ * </pre>
+ *
+ * <p>The iteration order of the returned {@code Map} follows any {@link OrderBy}
+ * annotations of the method. Otherwise, the order is unspecified.</p>
+ *
+ * <p>A repository method will fail if it is annotated {@code GroupBy} and it does not
+ * compute an aggregate, or if a record component that does not request an aggregate
+ * is not one of the grouping attributes.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface GroupBy {
+
+    /**
+     * The names of the entity attributes by which to group results.
+     *
+     * @return the grouping attribute names.
+     */
+    String[] value();
+}
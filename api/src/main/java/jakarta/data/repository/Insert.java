@@ -66,6 +66,19 @@ import java.lang.annotation.Target;
  * then the annotated method must raise {@link jakarta.data.exceptions.EntityExistsException}.
  * If the database follows the BASE model, or uses an append model to write data, this exception is not thrown.
  * </p>
+ * <p>When the parameter is of type {@code Iterable<E>} or {@code E[]}, the annotated method can instead have the return
+ * type {@link jakarta.data.BatchResult BatchResult&lt;E&gt;}. In that case, an entity that already exists does not
+ * cause the method to raise {@code EntityExistsException}. Instead, the exception is reported for the position of that
+ * entity in the argument, and the remaining entities are still inserted.
+ * </p>
+ * <p>To insert more entities than can be held in memory at once, an {@code Insert} method can have a single parameter
+ * of type {@code Stream<E>} or {@code java.util.Iterator<E>}. The entities are consumed and inserted in batches of the
+ * size that is specified by the {@link ChunkSize} annotation, and the Jakarta Data provider does not retain the inserted
+ * entities after each batch is written. Such a method must be declared {@code void}, or return {@code int} or
+ * {@code long}, which is the number of entities that were inserted. If an entity already exists, the method raises
+ * {@code EntityExistsException} after the batches that precede it are written, and the remaining entities are not
+ * consumed. The caller remains responsible for closing a {@code Stream} argument.
+ * </p>
  * <p>Annotations such as {@code @Find}, {@code @Query}, {@code @Insert}, {@code @Update}, {@code @Delete}, and
  * {@code @Save} are mutually-exclusive. A given method of a repository interface may have at most one {@code @Find}
  * annotation, lifecycle annotation, or query annotation.
@@ -61,6 +61,16 @@ import java.lang.annotation.Target;
  * <li>Otherwise, if there is no such entity in the database, the annotated method must behave as if it were annotated
  *     {@link Insert @Insert}.
  * </ul>
+ * <p>When the parameter is of type {@code Iterable<E>} or {@code E[]}, the annotated method can instead have the return
+ * type {@link jakarta.data.BatchResult BatchResult&lt;E&gt;}, which reports the outcome of saving each entity
+ * by its position in the argument.
+ * </p>
+ * <p>A {@code Save} method can also have a single parameter of type {@code Stream<E>} or {@code java.util.Iterator<E>},
+ * in which case the entities are consumed and saved in batches of the size that is specified by the
+ * {@link ChunkSize} annotation, without being retained after each batch is written. Such a method must be declared
+ * {@code void}, or return {@code int} or {@code long}, which is the number of entities that were saved. The caller
+ * remains responsible for closing a {@code Stream} argument.
+ * </p>
  * <p>Annotations such as {@code @Find}, {@code @Query}, {@code @Insert}, {@code @Update}, {@code @Delete}, and
  * {@code @Save} are mutually-exclusive. A given method of a repository interface may have at most one {@code @Find}
  * annotation, lifecycle annotation, or query annotation.
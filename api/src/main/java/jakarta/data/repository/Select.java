@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Annotates a repository {@link Find} method to return the value of a
+ * single entity attribute from each result, rather than the entity.</p>
+ *
+ * <p>Example usage for a {@code Product} entity with attributes
+ * {@code id}, {@code name}, and {@code price}:</p>
+ *
+ * <pre>
+ * &#64;Repository
+ * public interface Products extends BasicRepository&lt;Product, Long&gt; {
+ *
+ *     &#64;Find
+ *     &#64;OrderBy("id")
+ *     &#64;Select("id")
+ *     LongStream idsOf(&#64;By("name") String name);
+ *
+ *     &#64;Find
+ *     &#64;Select("price")
+ *     double[] pricesOf(&#64;By("name") String name);
+ * }
+ * </pre>
+ *
+ * <p>The method returns the type of the selected attribute, {@code A}, in place of
+ * the entity type, {@code E}, of the return types that are listed by {@link Find},
+ * such as {@code Optional<A>}, {@code List<A>}, or {@code Stream<A>}. For
+ * attributes of a numeric primitive type or its wrapper, the method can also
+ * return the following types, with which the Jakarta Data provider avoids
+ * retrieving entities and boxing values:</p>
+ * <ul>
+ *     <li>{@code int[]} or {@link java.util.stream.IntStream IntStream},</li>
+ *     <li>{@code long[]} or {@link java.util.stream.LongStream LongStream}, or</li>
+ *     <li>{@code double[]} or {@link java.util.stream.DoubleStream DoubleStream}.</li>
+ * </ul>
+ * <p>The attribute type must be convertible to the primitive element type by a
+ * widening primitive conversion. For example, an {@code int} attribute can be
+ * returned as {@code long[]}, but a {@code long} attribute cannot be returned as
+ * {@code IntStream}. If the value of the attribute is {@code null} for a result
+ * and the return type has a primitive element type, the repository method fails with a
+ * {@link jakarta.data.exceptions.DataException DataException}.</p>
+ *
+ * <p>The {@code Select} annotation can also annotate a component of a Java record
+ * that a repository method returns in place of the entity, to specify the name of
+ * the entity attribute from which the record component is obtained when the name
+ * of the record component differs from the name of the entity attribute. For example,</p>
+ *
+ * <pre>
+ * public record ProductLabel(&#64;Select("name") String title, double price) {
+ * }
+ * </pre>
+ *
+ * <p>Refer to {@link Find} for the rules that apply to record projections.</p>
+ *
+ * <h2>Aggregates</h2>
+ *
+ * <p>A {@code Select} annotation that specifies an {@link #aggregate() aggregate}
+ * requests that the database compute an {@link Aggregate} function over the selected
+ * attribute across all results, so that the method returns a single value rather than
+ * a value per result. The method returns the type of the aggregate value, its wrapper
+ * type, or {@code Optional} of its wrapper type. If there are no values from which to
+ * compute an {@link Aggregate#AVG AVG}, {@link Aggregate#MIN MIN}, or
+ * {@link Aggregate#MAX MAX}, the method returns {@code null} or {@code Optional.empty()},
+ * or, if the return type is primitive, fails with
+ * {@link jakarta.data.exceptions.EmptyResultException EmptyResultException}. For
+ * example,</p>
+ *
+ * <pre>
+ * &#64;Find
+ * &#64;Select(value = "price", aggregate = Aggregate.SUM)
+ * double totalPrice(&#64;By("category") String category);
+ *
+ * &#64;Find
+ * &#64;Select(value = "price", aggregate = Aggregate.MIN)
+ * Optional&lt;Double&gt; lowestPrice(&#64;By("category") String category);
+ * </pre>
+ *
+ * <p>The attribute name can be omitted for {@link Aggregate#COUNT COUNT} to count the
+ * results. Refer to {@link GroupBy} to compute aggregates for groups of results,
+ * including as components of a record.</p>
+ *
+ * <p>A repository method will fail if it is annotated {@code Select} and
+ * it is not annotated {@link Find}, or if the {@code Select} annotation names
+ * an attribute that is not an attribute of the entity.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.RECORD_COMPONENT})
+public @interface Select {
+
+    /**
+     * The name of the entity attribute to return from each result,
+     * or from which to obtain the annotated record component.
+     * The name can only be omitted when the {@link #aggregate() aggregate}
+     * is {@link Aggregate#COUNT COUNT}.
+     *
+     * @return the entity attribute name.
+     */
+    String value() default "";
+
+    /**
+     * An aggregate function to compute over the selected attribute.
+     * The default value of {@link Aggregate#NONE NONE} returns the
+     * value of the attribute from each result.
+     *
+     * @return the aggregate function.
+     */
+    Aggregate aggregate() default Aggregate.NONE;
+}
@@ -67,6 +67,29 @@ import java.lang.annotation.Target;
  * If the database follows the BASE model, or uses an append model to write data, the annotated method behaves the same
  * as the {@code @Insert} method.
  * </p>
+ * <p>An {@code Update} method can instead perform a partial update, which writes only the named entity attributes
+ * rather than the entire entity. In this form, the method has one or more parameters annotated {@link Assign}, which
+ * name the entity attributes to update and supply their new values, and its remaining parameters are conditions that
+ * select the entities to update, following the same rules as for the parameters of a {@link Find} method. For example,
+ * </p>
+ * <pre>
+ * {@code @Repository}
+ * interface Garage {
+ *     {@code @Update}
+ *     boolean repaint({@code @By("vin")} String vin, {@code @Assign("color")} String color);
+ * }
+ * </pre>
+ * <p>A partial update does not require retrieving the entities, and writes only the assigned attributes and, if the
+ * entity is versioned, an incremented version. The annotated method must be declared {@code void}, or return
+ * {@code boolean}, {@code int}, or {@code long}, which indicate whether any entities were updated and the number of
+ * entities that were updated. A partial update that matches no entities does not raise
+ * {@link jakarta.data.exceptions.OptimisticLockingFailureException}.
+ * </p>
+ * <p>When the parameter is of type {@code Iterable<E>} or {@code E[]}, the annotated method can instead have the return
+ * type {@link jakarta.data.BatchResult BatchResult&lt;E&gt;}, which reports an
+ * {@code OptimisticLockingFailureException} for the position of each entity that is not found or has a mismatched
+ * version, rather than raising it, while the remaining entities are still updated.
+ * </p>
  * <p>Annotations such as {@code @Find}, {@code @Query}, {@code @Insert}, {@code @Update}, {@code @Delete}, and
  * {@code @Save} are mutually-exclusive. A given method of a repository interface may have at most one {@code @Find}
  * annotation, lifecycle annotation, or query annotation.
@@ -23,6 +23,7 @@ import jakarta.data.metamodel.StaticMetamodel;
 import jakarta.data.page.PageRequest;
 import jakarta.data.repository.BasicRepository;
 import jakarta.data.repository.By;
+import jakarta.data.repository.ChunkSize;
 import jakarta.data.repository.CrudRepository;
 import jakarta.data.repository.DataRepository;
 import jakarta.data.repository.Delete;
@@ -529,7 +530,13 @@ import java.util.List;
  * <td>The caller must arrange to {@link java.util.stream.BaseStream#close() close}
  * all streams that it obtains from repository methods.</td></tr>
  *
- * <tr style="vertical-align: top; background-color:#eee"><td><code>find...By...(..., PageRequest)</code></td>
+ * <tr style="vertical-align: top; background-color:#eee"><td><code>find...By...</code></td>
+ * <td><code>Stream&lt;List&lt;E&gt;&gt;</code></td>
+ * <td>For results that are retrieved and returned in chunks of the size
+ * that is specified by the {@link ChunkSize} annotation.
+ * The caller must arrange to close the stream.</td></tr>
+ *
+ * <tr style="vertical-align: top;"><td><code>find...By...(..., PageRequest)</code></td>
  * <td><code>Page&lt;E&gt;</code>, <code>CursoredPage&lt;E&gt;</code></td>
  * <td>For use with pagination</td></tr>
  *
@@ -546,6 +553,14 @@ import java.util.List;
  * {@link Save}, {@link Delete}, or {@link Find} are specified by the API documentation
  * for those annotations.</p>
  *
+ * <h3>Record Projections</h3>
+ *
+ * <p>In place of the entity type {@code E}, a find method that uses
+ * <i>Query by Method Name</i> or <i>Parameter-based Conditions</i> can return a Java
+ * record type whose components name a subset of the entity attributes, in which case
+ * only those attributes are retrieved. The rules for record projections are specified
+ * by the API documentation for {@link Find}.</p>
+ *
  * <h2>Parameter-based Conditions</h2>
  *
  * <p>When using the <i>Parameter-based Conditions</i> pattern,
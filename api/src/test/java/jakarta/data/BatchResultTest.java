@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2022,2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data;
+
+import jakarta.data.exceptions.EntityExistsException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class BatchResultTest {
+
+    @Test
+    @DisplayName("Should report the outcome of each entity by its position in the argument")
+    void shouldReportOutcomePerEntity() {
+        EntityExistsException exists = new EntityExistsException("b already exists");
+        BatchResult<String> result = new BatchResult<>(List.of(
+                BatchResult.Outcome.success("a"),
+                BatchResult.Outcome.failure(exists),
+                BatchResult.Outcome.success("c"),
+                BatchResult.Outcome.failure(new EntityExistsException("d already exists"))));
+
+        assertSoftly(softly -> {
+            softly.assertThat(result.isSuccessful()).isFalse();
+            softly.assertThat(result.size()).isEqualTo(4);
+            softly.assertThat(result.entity(0)).hasValue("a");
+            softly.assertThat(result.entity(1)).isEmpty();
+            softly.assertThat(result.failure(1)).containsSame(exists);
+            softly.assertThat(result.failure(2)).isEmpty();
+            softly.assertThat(result.succeeded()).containsExactly("a", "c");
+            softly.assertThat(result.failedIndexes()).containsExactly(1, 3);
+            softly.assertThat(result.failed(List.of("A", "B", "C", "D"))).containsExactly("B", "D");
+        });
+    }
+
+    @Test
+    @DisplayName("Should be successful when every entity is written")
+    void shouldBeSuccessfulWithoutFailures() {
+        BatchResult<String> result = new BatchResult<>(List.of(BatchResult.Outcome.success("a")));
+        BatchResult<String> empty = new BatchResult<>(List.of());
+
+        assertSoftly(softly -> {
+            softly.assertThat(result.isSuccessful()).isTrue();
+            softly.assertThat(result.failedIndexes()).isEmpty();
+            softly.assertThat(result.failed(List.of("A"))).isEmpty();
+            softly.assertThat(empty.isSuccessful()).isTrue();
+            softly.assertThat(empty.size()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("Should require exactly one of entity and failure, and an argument of the same size")
+    void shouldRejectInvalidOutcomes() {
+        BatchResult<String> result = new BatchResult<>(List.of(BatchResult.Outcome.success("a")));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new BatchResult.Outcome<>(null, null));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BatchResult.Outcome<>("a", new EntityExistsException("a already exists")));
+        assertThatIllegalArgumentException().isThrownBy(() -> result.failed(List.of("A", "B")));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.metamodel.impl;
+
+import jakarta.data.Sort;
+import jakarta.data.metamodel.SortableAttribute;
+import jakarta.data.metamodel.TextAttribute;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class PrecomputedAttributeTest {
+
+    @Test
+    @DisplayName("Sortable attributes should return the same Sort instances on every call")
+    void shouldReturnSameSortsForSortableAttribute() {
+        SortableAttribute<Object> price = new PrecomputedSortableAttribute<>("price");
+
+        assertSoftly(softly -> {
+            softly.assertThat(price.name()).isEqualTo("price");
+            softly.assertThat(price.asc()).isEqualTo(Sort.asc("price"));
+            softly.assertThat(price.desc()).isEqualTo(Sort.desc("price"));
+            softly.assertThat(price.asc()).isSameAs(price.asc());
+            softly.assertThat(price.desc()).isSameAs(price.desc());
+            softly.assertThat(price).isEqualTo(new PrecomputedSortableAttribute<>("price"))
+                    .hasSameHashCodeAs(new PrecomputedSortableAttribute<>("price"))
+                    .isNotEqualTo(new PrecomputedSortableAttribute<>("cost"))
+                    .isNotEqualTo(new SortableAttributeRecord<>("price"));
+            softly.assertThat(price).hasToString("PrecomputedSortableAttribute[name=price]");
+        });
+        assertThatNullPointerException().isThrownBy(() -> new PrecomputedSortableAttribute<>(null));
+    }
+
+    @Test
+    @DisplayName("Text attributes should return the same Sort instances on every call")
+    void shouldReturnSameSortsForTextAttribute() {
+        TextAttribute<Object> name = new PrecomputedTextAttribute<>("name");
+
+        assertSoftly(softly -> {
+            softly.assertThat(name.name()).isEqualTo("name");
+            softly.assertThat(name.asc()).isEqualTo(Sort.asc("name"));
+            softly.assertThat(name.desc()).isEqualTo(Sort.desc("name"));
+            softly.assertThat(name.ascIgnoreCase()).isEqualTo(Sort.ascIgnoreCase("name"));
+            softly.assertThat(name.descIgnoreCase()).isEqualTo(Sort.descIgnoreCase("name"));
+            softly.assertThat(name.asc()).isSameAs(name.asc());
+            softly.assertThat(name.desc()).isSameAs(name.desc());
+            softly.assertThat(name.ascIgnoreCase()).isSameAs(name.ascIgnoreCase());
+            softly.assertThat(name.descIgnoreCase()).isSameAs(name.descIgnoreCase());
+            softly.assertThat(name).isEqualTo(new PrecomputedTextAttribute<>("name"))
+                    .hasSameHashCodeAs(new PrecomputedTextAttribute<>("name"))
+                    .isNotEqualTo(new PrecomputedTextAttribute<>("title"))
+                    .isNotEqualTo(new PrecomputedSortableAttribute<>("name"));
+            softly.assertThat(name).hasToString("PrecomputedTextAttribute[name=name]");
+        });
+        assertThatNullPointerException().isThrownBy(() -> new PrecomputedTextAttribute<>(null));
+    }
+}
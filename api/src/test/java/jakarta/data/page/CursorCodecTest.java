@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class CursorCodecTest {
+
+    enum Color { RED, GREEN, BLUE }
+
+    @Test
+    @DisplayName("Should round trip all supported keyset types")
+    void shouldRoundTripSupportedTypes() {
+        UUID uuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        Instant instant = Instant.parse("2024-03-01T12:30:45.123456789Z");
+        BigDecimal price = new BigDecimal("-1234.5600");
+        PageRequest.Cursor cursor = PageRequest.Cursor.forKeyset(
+                Long.MIN_VALUE, -7, "Smith é€", uuid, instant, price, Color.GREEN, null);
+
+        String token = cursor.encode();
+        PageRequest.Cursor decoded = PageRequest.Cursor.decode(token,
+                long.class, int.class, String.class, UUID.class, Instant.class, BigDecimal.class, Color.class, Object.class);
+
+        assertSoftly(softly -> {
+            softly.assertThat(decoded).isEqualTo(cursor);
+            softly.assertThat(decoded.getKeysetElement(0)).isEqualTo(Long.MIN_VALUE);
+            softly.assertThat(decoded.getKeysetElement(1)).isEqualTo(-7);
+            softly.assertThat(decoded.getKeysetElement(4)).isEqualTo(instant);
+            softly.assertThat(decoded.getKeysetElement(7)).isNull();
+            softly.assertThat(decoded.getKeysetElement(5)).isEqualTo(price);
+            softly.assertThat(token).matches("[A-Za-z0-9_-]+");
+        });
+    }
+
+    @Test
+    @DisplayName("Should produce short tokens for numeric keysets")
+    void shouldProduceShortTokens() {
+        String token = PageRequest.Cursor.forKeyset(1500L, 42).encode();
+
+        assertSoftly(softly -> {
+            softly.assertThat(token).hasSizeLessThanOrEqualTo(10);
+            softly.assertThat(PageRequest.Cursor.decode(token).elements().toArray()).containsExactly(1500L, 42);
+        });
+    }
+
+    @Test
+    @DisplayName("Should reject keyset values that cannot be encoded")
+    void shouldRejectUnsupportedType() {
+        PageRequest.Cursor cursor = PageRequest.Cursor.forKeyset(1L, new StringBuilder("x"));
+
+        assertThatThrownBy(cursor::encode)
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining("position 1");
+    }
+
+    @Test
+    @DisplayName("Should require an enum type to decode enumeration constants")
+    void shouldRequireEnumType() {
+        String token = PageRequest.Cursor.forKeyset(Color.BLUE).encode();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> PageRequest.Cursor.decode(token));
+        assertThat(PageRequest.Cursor.decode(token, Color.class).getKeysetElement(0)).isEqualTo(Color.BLUE);
+    }
+
+    @Test
+    @DisplayName("Should reject tokens that do not match the expected types")
+    void shouldRejectMismatchedTypes() {
+        String token = PageRequest.Cursor.forKeyset("Smith", 10L).encode();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> PageRequest.Cursor.decode(token, String.class));
+        assertThatIllegalArgumentException().isThrownBy(() -> PageRequest.Cursor.decode(token, String.class, int.class));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed tokens")
+    void shouldRejectMalformedTokens() {
+        String token = PageRequest.Cursor.forKeyset("Smith", 10L).encode();
+        String unknownVersion = Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[] { 9, 1, 0 });
+
+        assertThatIllegalArgumentException().isThrownBy(() -> PageRequest.Cursor.decode("not a token!"));
+        assertThatIllegalArgumentException().isThrownBy(() -> PageRequest.Cursor.decode(token.substring(0, token.length() - 2)));
+        assertThatIllegalArgumentException().isThrownBy(() -> PageRequest.Cursor.decode(unknownVersion));
+        assertThatIllegalArgumentException().isThrownBy(() -> PageRequest.Cursor.decode(""));
+    }
+
+    @Test
+    @DisplayName("Should reject keyset values that are out of range for their type")
+    void shouldRejectOutOfRangeValues() {
+        // version 1, one keyset value, INT tag, zig-zag encoded 2^33
+        String hugeInt = token(new byte[] { 1, 1, 1 }, varLong(1L << 34));
+        // version 1, one keyset value, INSTANT tag, zig-zag encoded epoch seconds beyond Instant.MAX, 0 nanoseconds
+        String hugeInstant = token(new byte[] { 1, 1, 5 }, varLong((Long.MAX_VALUE / 2) << 1), new byte[] { 0 });
+
+        assertThatIllegalArgumentException().isThrownBy(() -> PageRequest.Cursor.decode(hugeInt));
+        assertThatIllegalArgumentException().isThrownBy(() -> PageRequest.Cursor.decode(hugeInt, int.class));
+        assertThatIllegalArgumentException().isThrownBy(() -> PageRequest.Cursor.decode(hugeInstant));
+        assertThatIllegalArgumentException().isThrownBy(() -> PageRequest.Cursor.decode(hugeInstant, Instant.class));
+    }
+
+    private static String token(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
+    }
+
+    private static byte[] varLong(long value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+        return out.toByteArray();
+    }
+}
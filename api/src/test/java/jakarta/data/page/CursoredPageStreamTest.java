@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import jakarta.data.page.impl.LazyCursoredPageRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class CursoredPageStreamTest {
+
+    /**
+     * Pages of ids from 1 to the maximum, in ascending order.
+     */
+    private static final class Ids implements Function<PageRequest<Long>, CursoredPage<Long>> {
+        private final long max;
+        private final AtomicInteger fetches = new AtomicInteger();
+        private volatile long failAfter = Long.MAX_VALUE;
+
+        Ids(long max) {
+            this.max = max;
+        }
+
+        @Override
+        public CursoredPage<Long> apply(PageRequest<Long> pageRequest) {
+            fetches.incrementAndGet();
+            long after = pageRequest.cursor().map(c -> c.getLong(0)).orElse(0L);
+            if (after >= failAfter) {
+                throw new IllegalStateException("database unavailable");
+            }
+            List<Long> content = LongStream.rangeClosed(after + 1, Math.min(max, after + pageRequest.size()))
+                    .boxed()
+                    .collect(Collectors.toList());
+            boolean hasNext = !content.isEmpty() && content.get(content.size() - 1) < max;
+            return new LazyCursoredPageRecord<>(content, PageRequest.Cursor::forLong, -1L, pageRequest, hasNext, after > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Should stream the results of all pages in order")
+    void shouldStreamAllPages() {
+        Ids ids = new Ids(95);
+        CursoredPage<Long> first = ids.apply(PageRequest.of(Long.class).size(10));
+
+        try (Stream<Long> all = CursoredPage.streamAll(first, ids, 3, ForkJoinPool.commonPool())) {
+            List<Long> results = all.collect(Collectors.toList());
+
+            assertSoftly(softly -> {
+                softly.assertThat(results).hasSize(95);
+                softly.assertThat(results).isSorted();
+                softly.assertThat(results.get(94)).isEqualTo(95L);
+                softly.assertThat(ids.fetches.get()).isEqualTo(10);
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Should fetch pages on demand when not prefetching")
+    void shouldStreamWithoutPrefetch() {
+        Ids ids = new Ids(30);
+        CursoredPage<Long> first = ids.apply(PageRequest.of(Long.class).size(10));
+
+        Iterator<Long> it = CursoredPage.streamAll(first, ids, 0, Runnable::run).iterator();
+        for (int i = 0; i < 10; i++) {
+            it.next();
+        }
+        assertThat(ids.fetches.get()).isEqualTo(1);
+        it.next();
+        assertThat(ids.fetches.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not request more pages than the prefetch limit ahead of the consumer")
+    void shouldBoundPrefetch() {
+        Ids ids = new Ids(1000);
+        CursoredPage<Long> first = ids.apply(PageRequest.of(Long.class).size(10));
+
+        try (Stream<Long> all = CursoredPage.streamAll(first, ids, 2, Runnable::run)) {
+            Iterator<Long> it = all.iterator();
+            for (int i = 0; i < 25; i++) {
+                it.next();
+            }
+            // consuming page 3 with pages 4 and 5 requested ahead
+            assertThat(ids.fetches.get()).isEqualTo(5);
+        }
+    }
+
+    @Test
+    @DisplayName("Should stream only the first page when there is no next page")
+    void shouldStreamSinglePage() {
+        Ids ids = new Ids(4);
+        CursoredPage<Long> first = ids.apply(PageRequest.of(Long.class).size(10));
+
+        assertThat(CursoredPage.streamAll(first, ids, 2, Runnable::run)).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(ids.fetches.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should raise exceptions from the fetcher to the consumer")
+    void shouldRaiseFetcherException() {
+        Ids ids = new Ids(100);
+        ids.failAfter = 20;
+        CursoredPage<Long> first = ids.apply(PageRequest.of(Long.class).size(10));
+
+        Stream<Long> all = CursoredPage.streamAll(first, ids, 2, ForkJoinPool.commonPool());
+        assertThatThrownBy(() -> all.forEach(id -> { }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("database unavailable");
+    }
+
+    @Test
+    @DisplayName("Should reject a negative number of pages to prefetch")
+    void shouldRejectNegativePrefetch() {
+        CursoredPage<Long> first = new Ids(1).apply(PageRequest.of(Long.class));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> CursoredPage.streamAll(first, new Ids(1), -1, Runnable::run));
+    }
+
+    @Test
+    @DisplayName("Should not request pages until the stream is consumed")
+    void shouldNotFetchBeforeConsumption() {
+        Ids ids = new Ids(100);
+        CursoredPage<Long> first = ids.apply(PageRequest.of(Long.class).size(10));
+
+        Stream<Long> unused = CursoredPage.streamAll(first, ids, 3, Runnable::run);
+        assertThat(ids.fetches.get()).isEqualTo(1);
+        unused.close();
+        assertThat(ids.fetches.get()).isEqualTo(1);
+
+        try (Stream<Long> all = CursoredPage.streamAll(first, ids, 3, Runnable::run)) {
+            assertThat(all.findFirst()).contains(1L);
+            assertThat(ids.fetches.get()).isEqualTo(4);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import jakarta.data.Sort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class KeyRangeSpliteratorTest {
+
+    // sparse Id values 3, 6, 9, ..., 999
+    private static final List<Long> IDS = LongStream.rangeClosed(1, 333).map(i -> i * 3).boxed().toList();
+
+    @Test
+    @DisplayName("Should produce entities in the order of the sort on the Id attribute")
+    void shouldFollowSortOnId() {
+        Queue<long[]> ranges = new ConcurrentLinkedQueue<>();
+
+        assertSoftly(softly -> {
+            softly.assertThat(Page.streamKeyRanges(Sort.asc("id"), 3L, 999L, 10L, query(ranges, true)))
+                    .containsExactlyElementsOf(IDS);
+            softly.assertThat(KeyRangeSpliterator.stream(Sort.desc("id"), 3L, 999L, 10L, query(ranges, false)))
+                    .containsExactlyElementsOf(IDS.stream().sorted(Comparator.reverseOrder()).toList());
+            softly.assertThat(ranges).hasSize(2);
+        });
+    }
+
+    @Test
+    @DisplayName("Should run a separate range query per split of a parallel stream")
+    void shouldQueryEachRangeOfParallelStream() {
+        for (Sort<Long> sort : List.of(Sort.<Long>asc("id"), Sort.<Long>desc("id"))) {
+            Queue<long[]> ranges = new ConcurrentLinkedQueue<>();
+            List<Long> expected = sort.isAscending() ? IDS : IDS.stream().sorted(Comparator.reverseOrder()).toList();
+
+            List<Long> found = KeyRangeSpliterator.stream(sort, 3L, 999L, 50L, query(ranges, sort.isAscending()))
+                    .parallel()
+                    .collect(Collectors.toList());
+
+            List<long[]> sorted = ranges.stream().sorted(Comparator.comparingLong(r -> r[0])).toList();
+            assertSoftly(softly -> {
+                softly.assertThat(found).containsExactlyElementsOf(expected);
+                softly.assertThat(sorted).hasSizeGreaterThan(1);
+                softly.assertThat(sorted.get(0)[0]).isEqualTo(3L);
+                softly.assertThat(sorted.get(sorted.size() - 1)[1]).isEqualTo(999L);
+                for (int i = 0; i < sorted.size(); i++) {
+                    softly.assertThat(sorted.get(i)[1] - sorted.get(i)[0] + 1).isGreaterThanOrEqualTo(50L);
+                    if (i > 0) {
+                        softly.assertThat(sorted.get(i)[0]).isEqualTo(sorted.get(i - 1)[1] + 1);
+                    }
+                }
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Should split ranges without overflow and stop at the minimum range size")
+    void shouldSplitExtremeRanges() {
+        Queue<long[]> ranges = new ConcurrentLinkedQueue<>();
+        var spliterator = KeyRangeSpliterator.stream(Sort.<Long>asc("id"), Long.MIN_VALUE, Long.MAX_VALUE, 1L, query(ranges, true))
+                .spliterator();
+        var prefix = spliterator.trySplit();
+
+        var small = KeyRangeSpliterator.stream(Sort.<Long>asc("id"), 1L, 19L, 10L, query(ranges, true)).spliterator();
+
+        assertSoftly(softly -> {
+            softly.assertThat(prefix).isNotNull();
+            softly.assertThat(prefix.estimateSize()).isEqualTo(Long.MAX_VALUE);
+            softly.assertThat(spliterator.estimateSize()).isEqualTo(Long.MAX_VALUE);
+            softly.assertThat(small.estimateSize()).isEqualTo(19L);
+            softly.assertThat(small.trySplit()).isNull();
+            softly.assertThat(ranges).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("Should close the results of range queries that are not fully traversed when the stream is closed")
+    void shouldCloseUnfinishedRangeQueries() {
+        AtomicInteger closed = new AtomicInteger();
+        Stream<Long> stream = KeyRangeSpliterator.stream(Sort.asc("id"), 3L, 999L, 10L,
+                (min, max) -> IDS.stream().filter(id -> id >= min && id <= max).onClose(closed::incrementAndGet));
+
+        assertThat(stream.limit(5).toList()).containsExactly(3L, 6L, 9L, 12L, 15L);
+        assertThat(closed).hasValue(0);
+        stream.close();
+        assertThat(closed).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should reject an empty range or a minimum range size less than 1")
+    void shouldRejectInvalidRanges() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> KeyRangeSpliterator.stream(Sort.asc("id"), 10L, 9L, 1L, (min, max) -> Stream.empty()));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> KeyRangeSpliterator.stream(Sort.asc("id"), 1L, 9L, 0L, (min, max) -> Stream.empty()));
+    }
+
+    private static BiFunction<Long, Long, Stream<Long>> query(Queue<long[]> ranges, boolean ascending) {
+        return (min, max) -> {
+            ranges.add(new long[]{min, max});
+            Stream<Long> results = IDS.stream().filter(id -> id >= min && id <= max);
+            return ascending ? results : results.sorted(Comparator.reverseOrder());
+        };
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import jakarta.data.Sort;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class PageRequestBuilderTest {
+
+    @Test
+    @DisplayName("Should build the same PageRequest as the fluent methods")
+    void shouldBuildEquivalentPageRequest() {
+        PageRequest<Object> built = PageRequest.builder(Object.class)
+                .page(3)
+                .size(25)
+                .asc("lastName")
+                .ascIgnoreCase("firstName")
+                .desc("birthYear")
+                .descIgnoreCase("city")
+                .sortBy(Sort.asc("id"))
+                .withoutTotal()
+                .build();
+
+        PageRequest<Object> chained = PageRequest.of(Object.class)
+                .page(3)
+                .size(25)
+                .asc("lastName")
+                .ascIgnoreCase("firstName")
+                .desc("birthYear")
+                .descIgnoreCase("city")
+                .asc("id")
+                .withoutTotal();
+
+        assertSoftly(softly -> {
+            softly.assertThat(built).isEqualTo(chained);
+            softly.assertThat(built.hashCode()).isEqualTo(chained.hashCode());
+            softly.assertThat(built.toString()).isEqualTo(chained.toString());
+            softly.assertThat(built.sorts()).containsExactlyElementsOf(chained.sorts());
+            softly.assertThat(built.requestTotal()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("Should build a keyset PageRequest in either direction")
+    void shouldBuildKeysetPageRequest() {
+        PageRequest.Builder<Object> builder = PageRequest.builder(Object.class)
+                .size(20)
+                .asc("lastName")
+                .asc("id");
+
+        PageRequest<Object> after = builder.afterKeyset("Smith", 10L).build();
+        PageRequest<Object> before = builder.beforeKeysetCursor(PageRequest.Cursor.forKeyset("Jones", 5L)).build();
+
+        assertSoftly(softly -> {
+            softly.assertThat(after.mode()).isEqualTo(PageRequest.Mode.CURSOR_NEXT);
+            softly.assertThat(after.cursor()).hasValue(PageRequest.Cursor.forKeyset("Smith", 10L));
+            softly.assertThat(before.mode()).isEqualTo(PageRequest.Mode.CURSOR_PREVIOUS);
+            softly.assertThat(before.cursor()).hasValue(PageRequest.Cursor.forKeyset("Jones", 5L));
+            softly.assertThat(before.sorts()).containsExactly(Sort.asc("lastName"), Sort.asc("id"));
+        });
+    }
+
+    @Test
+    @DisplayName("Should grow beyond the presized sort capacity")
+    void shouldGrowSorts() {
+        PageRequest.Builder<Object> builder = PageRequest.builder(Object.class);
+        for (int i = 0; i < 12; i++) {
+            builder.asc("attr" + i);
+        }
+        PageRequest<Object> pageRequest = builder.build();
+
+        assertSoftly(softly -> {
+            softly.assertThat(pageRequest.sorts()).hasSize(12);
+            softly.assertThat(pageRequest.sorts().get(11)).isEqualTo(Sort.asc("attr11"));
+        });
+    }
+
+    @Test
+    @DisplayName("Should not let later changes to the builder affect PageRequests already built")
+    void shouldKeepBuiltPageRequestsImmutable() {
+        PageRequest.Builder<Object> builder = PageRequest.builder(Object.class).asc("a").asc("b").asc("c");
+        PageRequest<Object> first = builder.build();
+        builder.desc("d").page(2);
+
+        assertSoftly(softly -> {
+            softly.assertThat(first.sorts()).containsExactly(Sort.asc("a"), Sort.asc("b"), Sort.asc("c"));
+            softly.assertThat(first.page()).isEqualTo(1L);
+            softly.assertThat(builder.build().sorts()).hasSize(4);
+        });
+    }
+
+    @Test
+    @DisplayName("Should restore defaults on reset")
+    void shouldReset() {
+        PageRequest.Builder<Object> builder = PageRequest.builder(Object.class)
+                .page(4)
+                .size(50)
+                .desc("price")
+                .withoutTotal()
+                .afterKeyset(100.0);
+
+        PageRequest<Object> pageRequest = builder.reset().build();
+
+        assertSoftly(softly -> {
+            softly.assertThat(pageRequest).isEqualTo(PageRequest.of(Object.class));
+            softly.assertThat(pageRequest.cursor()).isEmpty();
+            softly.assertThat(pageRequest.sorts()).isEmpty();
+            softly.assertThat(pageRequest.requestTotal()).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("Should validate pagination information when building")
+    void shouldValidateOnBuild() {
+        PageRequest.Builder<Object> builder = PageRequest.builder(Object.class).size(0);
+
+        assertThatIllegalArgumentException().isThrownBy(builder::build);
+        assertThatIllegalArgumentException().isThrownBy(() -> builder.size(10).page(0).build());
+        assertThatIllegalArgumentException().isThrownBy(() -> builder.afterKeyset());
+        assertThatNullPointerException().isThrownBy(() -> builder.sortBy(null));
+        assertThatIllegalArgumentException().isThrownBy(() -> builder.withCappedTotal(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> builder.withKnownTotal(-1L));
+    }
+}
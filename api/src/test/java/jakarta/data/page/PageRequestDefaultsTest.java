@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import jakarta.data.Sort;
+import jakarta.data.page.impl.CursoredPageRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class PageRequestDefaultsTest {
+
+    @Test
+    @DisplayName("Should provide the previous behavior to implementations that predate the total modes")
+    void shouldDefaultTotalModes() {
+        PageRequest<Long> request = new LegacyPageRequest<>(PageRequest.<Long>ofSize(10));
+        PageRequest<Long> withoutTotal = request.withoutTotal();
+
+        assertSoftly(softly -> {
+            softly.assertThat(request.totalMode()).isEqualTo(PageRequest.TotalMode.EXACT);
+            softly.assertThat(withoutTotal.totalMode()).isEqualTo(PageRequest.TotalMode.NONE);
+            softly.assertThat(request.totalCap()).isZero();
+            softly.assertThat(request.knownTotal()).isEmpty();
+            softly.assertThat(request.keysetSeek()).isFalse();
+            softly.assertThat(request.shape()).isEqualTo(PageRequest.ofSize(10).shape());
+        });
+        assertThatThrownBy(request::withEstimatedTotal).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> request.withCappedTotal(100L)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(request::withInlineTotal).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> request.withKnownTotal(40L)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(request::withKeysetSeek).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Should not supply a known total to page requests that do not support it")
+    void shouldNotSupplyKnownTotalToLegacyPageRequest() {
+        PageRequest<Long> request = new LegacyPageRequest<>(PageRequest.<Long>ofSize(3).page(2).afterKeyset(30L));
+        List<Long> fetched = List.of(31L, 32L, 33L, 34L);
+
+        CursoredPage<Long> page = CursoredPageRecord.ofLookahead(fetched,
+                List.of(PageRequest.Cursor.forLong(31L), PageRequest.Cursor.forLong(32L),
+                        PageRequest.Cursor.forLong(33L), PageRequest.Cursor.forLong(34L)),
+                40L, request);
+
+        assertSoftly(softly -> {
+            softly.assertThat(page.nextPageRequest()).isInstanceOf(LegacyPageRequest.class);
+            softly.assertThat(page.nextPageRequest().knownTotal()).isEmpty();
+            softly.assertThat(page.nextPageRequest().cursor()).contains(PageRequest.Cursor.forLong(33L));
+        });
+    }
+
+    /**
+     * Implements only the methods that PageRequest declared before the total modes,
+     * known totals, and keyset seek were added, as an existing implementation would.
+     */
+    private static final class LegacyPageRequest<T> implements PageRequest<T> {
+        private final PageRequest<T> delegate;
+
+        private LegacyPageRequest(PageRequest<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public PageRequest<T> afterKeyset(Object... keyset) {
+            return new LegacyPageRequest<>(delegate.afterKeyset(keyset));
+        }
+
+        @Override
+        public PageRequest<T> beforeKeyset(Object... keyset) {
+            return new LegacyPageRequest<>(delegate.beforeKeyset(keyset));
+        }
+
+        @Override
+        public PageRequest<T> afterKeysetCursor(Cursor keysetCursor) {
+            return new LegacyPageRequest<>(delegate.afterKeysetCursor(keysetCursor));
+        }
+
+        @Override
+        public PageRequest<T> beforeKeysetCursor(Cursor keysetCursor) {
+            return new LegacyPageRequest<>(delegate.beforeKeysetCursor(keysetCursor));
+        }
+
+        @Override
+        public PageRequest<T> asc(String property) {
+            return new LegacyPageRequest<>(delegate.asc(property));
+        }
+
+        @Override
+        public PageRequest<T> ascIgnoreCase(String property) {
+            return new LegacyPageRequest<>(delegate.ascIgnoreCase(property));
+        }
+
+        @Override
+        public PageRequest<T> desc(String property) {
+            return new LegacyPageRequest<>(delegate.desc(property));
+        }
+
+        @Override
+        public PageRequest<T> descIgnoreCase(String property) {
+            return new LegacyPageRequest<>(delegate.descIgnoreCase(property));
+        }
+
+        @Override
+        public Optional<Cursor> cursor() {
+            return delegate.cursor();
+        }
+
+        @Override
+        public Mode mode() {
+            return delegate.mode();
+        }
+
+        @Override
+        public long page() {
+            return delegate.page();
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public boolean requestTotal() {
+            return delegate.requestTotal();
+        }
+
+        @Override
+        public List<Sort<? super T>> sorts() {
+            return delegate.sorts();
+        }
+
+        @Override
+        public PageRequest<T> next() {
+            return new LegacyPageRequest<>(delegate.next());
+        }
+
+        @Override
+        public PageRequest<T> previous() {
+            PageRequest<T> previous = delegate.previous();
+            return previous == null ? null : new LegacyPageRequest<>(previous);
+        }
+
+        @Override
+        public PageRequest<T> page(long pageNumber) {
+            return new LegacyPageRequest<>(delegate.page(pageNumber));
+        }
+
+        @Override
+        public PageRequest<T> size(int maxPageSize) {
+            return new LegacyPageRequest<>(delegate.size(maxPageSize));
+        }
+
+        @Override
+        public PageRequest<T> sortBy(Iterable<Sort<? super T>> sorts) {
+            return new LegacyPageRequest<>(delegate.sortBy(sorts));
+        }
+
+        @Override
+        public PageRequest<T> sortBy(Sort<? super T> sort) {
+            return new LegacyPageRequest<>(delegate.sortBy(sort));
+        }
+
+        @Override
+        public PageRequest<T> sortBy(Sort<? super T> sort1, Sort<? super T> sort2) {
+            return new LegacyPageRequest<>(delegate.sortBy(sort1, sort2));
+        }
+
+        @Override
+        public PageRequest<T> sortBy(Sort<? super T> sort1, Sort<? super T> sort2, Sort<? super T> sort3) {
+            return new LegacyPageRequest<>(delegate.sortBy(sort1, sort2, sort3));
+        }
+
+        @Override
+        public PageRequest<T> sortBy(Sort<? super T> sort1, Sort<? super T> sort2, Sort<? super T> sort3,
+                                     Sort<? super T> sort4) {
+            return new LegacyPageRequest<>(delegate.sortBy(sort1, sort2, sort3, sort4));
+        }
+
+        @Override
+        public PageRequest<T> sortBy(Sort<? super T> sort1, Sort<? super T> sort2, Sort<? super T> sort3,
+                                     Sort<? super T> sort4, Sort<? super T> sort5) {
+            return new LegacyPageRequest<>(delegate.sortBy(sort1, sort2, sort3, sort4, sort5));
+        }
+
+        @Override
+        public PageRequest<T> withoutTotal() {
+            return new LegacyPageRequest<>(delegate.withoutTotal());
+        }
+
+        @Override
+        public PageRequest<T> withTotal() {
+            return new LegacyPageRequest<>(delegate.withTotal());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2023,2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import jakarta.data.Sort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class PageRequestShapeTest {
+
+    @Test
+    @DisplayName("Should have equal shapes for page requests that differ only in page number, size, or keyset values")
+    void shouldIgnorePageSizeAndKeysetValues() {
+        PageRequest<?> first = PageRequest.ofSize(10).asc("lastName").desc("id");
+        PageRequest<?> third = first.page(3).size(25);
+        PageRequest<?> after = first.afterKeyset("Smith", 10L);
+        PageRequest<?> afterOther = first.page(7).afterKeyset("Jones", 77L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(third.shape()).isEqualTo(first.shape());
+            softly.assertThat(third.shape()).hasSameHashCodeAs(first.shape());
+            softly.assertThat(afterOther.shape()).isEqualTo(after.shape());
+            softly.assertThat(afterOther.shape()).hasSameHashCodeAs(after.shape());
+            softly.assertThat(after.shape().mode()).isEqualTo(PageRequest.Mode.CURSOR_NEXT);
+            softly.assertThat(after.shape().cursorSize()).isEqualTo(2);
+            softly.assertThat(after.shape().requestTotal()).isTrue();
+            softly.assertThat(after.shape().sorts().toArray())
+                    .containsExactly(Sort.asc("lastName"), Sort.desc("id"));
+        });
+    }
+
+    @Test
+    @DisplayName("Should have different shapes for page requests that differ in mode, sorts, total, or cursor size")
+    void shouldDistinguishQueryStructure() {
+        PageRequest<?> request = PageRequest.ofSize(10).asc("lastName").desc("id");
+
+        assertSoftly(softly -> {
+            softly.assertThat(request.afterKeyset("Smith", 10L).shape()).isNotEqualTo(request.shape());
+            softly.assertThat(request.afterKeyset("Smith", 10L).shape())
+                    .isNotEqualTo(request.beforeKeyset("Smith", 10L).shape());
+            softly.assertThat(request.afterKeyset("Smith", 10L).shape())
+                    .isNotEqualTo(request.afterKeyset("Smith").shape());
+            softly.assertThat(request.withoutTotal().shape()).isNotEqualTo(request.shape());
+            softly.assertThat(request.desc("firstName").shape()).isNotEqualTo(request.shape());
+            softly.assertThat(request.descIgnoreCase("firstName").shape())
+                    .isNotEqualTo(request.desc("firstName").shape());
+            softly.assertThat(PageRequest.ofSize(10).desc("id").asc("lastName").shape())
+                    .isNotEqualTo(request.shape());
+        });
+    }
+
+    @Test
+    @DisplayName("Should be usable as a cache key across page fetches")
+    void shouldBeUsableAsCacheKey() {
+        Map<PageRequest.Shape, String> statements = new HashMap<>();
+        PageRequest<?> request = PageRequest.ofSize(10).asc("name");
+        for (int page = 1; page <= 5; page++) {
+            statements.computeIfAbsent(request.page(page).shape(), PageRequest.Shape::toString);
+            statements.computeIfAbsent(request.page(page).afterKeyset("name" + page).shape(), PageRequest.Shape::toString);
+        }
+
+        assertThat(statements).hasSize(2)
+                .containsValues("PageRequest.Shape{mode=OFFSET, total, name ASC}",
+                        "PageRequest.Shape{mode=CURSOR_NEXT, 1 keys, total, name ASC}");
+    }
+
+    @Test
+    @DisplayName("Should compute the shape once and share it with derived page requests of the same shape")
+    void shouldShareShapeWithDerivedPageRequests() {
+        PageRequest<?> request = PageRequest.ofSize(10).asc("name");
+        PageRequest<?> after = request.afterKeyset("Smith");
+
+        assertSoftly(softly -> {
+            softly.assertThat(request.shape()).isSameAs(request.shape());
+            softly.assertThat(request.next().shape()).isSameAs(request.shape());
+            softly.assertThat(request.page(5).size(20).shape()).isSameAs(request.shape());
+            softly.assertThat(after.afterKeyset("Jones").shape()).isSameAs(after.shape());
+            softly.assertThat(after.afterKeysetCursor(PageRequest.Cursor.forKeyset("Jones")).shape())
+                    .isSameAs(after.shape());
+            softly.assertThat(after.beforeKeyset("Jones").shape()).isNotSameAs(after.shape())
+                    .isNotEqualTo(after.shape());
+            softly.assertThat(after.afterKeyset("Jones", 2L).shape().cursorSize()).isEqualTo(2);
+            softly.assertThat(request.desc("id").shape()).isNotEqualTo(request.shape());
+        });
+    }
+
+    @Test
+    @DisplayName("Should not consider the shared shape when comparing page requests")
+    void shouldExcludeShapeFromEquality() {
+        PageRequest<?> derived = PageRequest.ofSize(10).asc("name").next();
+        PageRequest<?> created = PageRequest.ofPage(2).size(10).asc("name");
+
+        assertSoftly(softly -> {
+            softly.assertThat(derived).isEqualTo(created)
+                    .hasSameHashCodeAs(created);
+            softly.assertThat(derived.shape()).isEqualTo(created.shape());
+            softly.assertThat(derived).isNotEqualTo(created.next());
+        });
+    }
+}
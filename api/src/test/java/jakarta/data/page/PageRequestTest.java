@@ -108,6 +108,69 @@ class PageRequestTest {
         });
     }
 
+    @Test
+    @DisplayName("The total mode must be preserved when adding subsequent configuration.")
+    void shouldTotalModeBePreserved() {
+        PageRequest<?> estimated = PageRequest.ofSize(20).withEstimatedTotal().page(3).asc("id");
+        PageRequest<?> capped = PageRequest.ofSize(20).withCappedTotal(1000).afterKeyset(10L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(PageRequest.ofSize(20).totalMode()).isEqualTo(PageRequest.TotalMode.EXACT);
+            softly.assertThat(PageRequest.ofSize(20).withoutTotal().totalMode()).isEqualTo(PageRequest.TotalMode.NONE);
+            softly.assertThat(estimated.totalMode()).isEqualTo(PageRequest.TotalMode.ESTIMATED);
+            softly.assertThat(estimated.requestTotal()).isTrue();
+            softly.assertThat(estimated.totalCap()).isZero();
+            softly.assertThat(capped.totalMode()).isEqualTo(PageRequest.TotalMode.CAPPED);
+            softly.assertThat(capped.requestTotal()).isTrue();
+            softly.assertThat(capped.totalCap()).isEqualTo(1000L);
+            softly.assertThat(capped.withTotal().totalCap()).isZero();
+            softly.assertThat(capped.withInlineTotal().totalMode()).isEqualTo(PageRequest.TotalMode.INLINE);
+            softly.assertThat(capped.withInlineTotal().totalCap()).isZero();
+            softly.assertThat(capped.withInlineTotal().requestTotal()).isTrue();
+            softly.assertThat(capped.withTotal()).isEqualTo(PageRequest.ofSize(20).afterKeyset(10L));
+            softly.assertThat(capped).isNotEqualTo(PageRequest.ofSize(20).withCappedTotal(2000).afterKeyset(10L));
+        });
+
+        assertThatIllegalArgumentException().isThrownBy(() -> PageRequest.ofSize(20).withCappedTotal(0));
+    }
+
+    @Test
+    @DisplayName("The known total must be retained while navigating and discarded when the total mode changes.")
+    void shouldKnownTotalBeRetainedUntilTotalModeChanges() {
+        PageRequest<?> request = PageRequest.ofSize(10).asc("id").withKnownTotal(95L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(PageRequest.ofSize(10).knownTotal()).isEmpty();
+            softly.assertThat(request.knownTotal()).hasValue(95L);
+            softly.assertThat(request.next().knownTotal()).hasValue(95L);
+            softly.assertThat(request.page(5).size(20).desc("name").knownTotal()).hasValue(95L);
+            softly.assertThat(request.afterKeyset(10L).knownTotal()).hasValue(95L);
+            softly.assertThat(request.withTotal().knownTotal()).isEmpty();
+            softly.assertThat(request.withEstimatedTotal().knownTotal()).isEmpty();
+            softly.assertThat(request.withoutTotal().knownTotal()).isEmpty();
+            softly.assertThat(request.withoutTotal().withKnownTotal(95L).knownTotal()).isEmpty();
+            softly.assertThat(request.shape()).isEqualTo(PageRequest.ofSize(10).asc("id").shape());
+        });
+
+        assertThatIllegalArgumentException().isThrownBy(() -> PageRequest.ofSize(10).withKnownTotal(-1L));
+    }
+
+    @Test
+    @DisplayName("The keyset seek option must be preserved when navigating pages.")
+    void shouldKeysetSeekBePreserved() {
+        PageRequest<?> request = PageRequest.ofSize(10).asc("id").withKeysetSeek();
+
+        assertSoftly(softly -> {
+            softly.assertThat(PageRequest.ofSize(10).keysetSeek()).isFalse();
+            softly.assertThat(request.keysetSeek()).isTrue();
+            softly.assertThat(request.next().next().keysetSeek()).isTrue();
+            softly.assertThat(request.page(5000).previous().keysetSeek()).isTrue();
+            softly.assertThat(request.withoutTotal().size(20).keysetSeek()).isTrue();
+            softly.assertThat(request.page(3)).isNotEqualTo(PageRequest.ofSize(10).asc("id").page(3));
+            softly.assertThat(request.shape()).isEqualTo(PageRequest.ofSize(10).asc("id").shape());
+        });
+    }
+
     @Test
     @DisplayName("Should throw IllegalArgumentException when page is not present")
     void shouldReturnErrorWhenThereIsIllegalArgument() {
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import jakarta.data.page.impl.PageRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class PageStreamTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    /**
+     * Pages of ids from 1 to the maximum, in ascending order, which tracks
+     * the number of pages that are fetched at the same time.
+     */
+    private static final class Ids implements Function<PageRequest<Long>, Page<Long>> {
+        private final long max;
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger maxRunning = new AtomicInteger();
+        private final AtomicInteger fetches = new AtomicInteger();
+        private volatile long failOnPage = -1;
+
+        Ids(long max) {
+            this.max = max;
+        }
+
+        @Override
+        public Page<Long> apply(PageRequest<Long> pageRequest) {
+            fetches.incrementAndGet();
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+                if (pageRequest.page() == failOnPage) {
+                    throw new IllegalStateException("database unavailable");
+                }
+                long start = (pageRequest.page() - 1) * pageRequest.size() + 1;
+                List<Long> content = LongStream.rangeClosed(start, Math.min(max, start + pageRequest.size() - 1))
+                        .boxed()
+                        .collect(Collectors.toList());
+                return new PageRecord<>(pageRequest, content, pageRequest.requestTotal() ? max : -1L);
+            } catch (InterruptedException x) {
+                throw new RuntimeException(x);
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+    }
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should stream the results of all pages in order with bounded concurrency")
+    void shouldStreamAllPagesInOrder() {
+        Ids ids = new Ids(1005);
+        Page<Long> first = ids.apply(PageRequest.of(Long.class).size(10));
+        Map<Long, Duration> latencies = new ConcurrentHashMap<>();
+
+        try (Stream<Long> all = Page.streamAll(first, ids, executor, 3,
+                (pageRequest, latency) -> latencies.put(pageRequest.page(), latency))) {
+            List<Long> results = all.collect(Collectors.toList());
+
+            assertSoftly(softly -> {
+                softly.assertThat(results).hasSize(1005);
+                softly.assertThat(results).isSorted();
+                softly.assertThat(results).doesNotHaveDuplicates();
+                softly.assertThat(ids.maxRunning.get()).isBetween(1, 3);
+                softly.assertThat(latencies).hasSize(100);
+                softly.assertThat(latencies).containsKeys(2L, 101L);
+                softly.assertThat(latencies.get(2L)).isPositive();
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Should stream only the first page when there is a single page")
+    void shouldStreamSinglePage() {
+        Ids ids = new Ids(7);
+        Page<Long> first = ids.apply(PageRequest.of(Long.class).size(10));
+
+        assertSoftly(softly -> {
+            softly.assertThat(Page.streamAll(first, ids, executor, 4)).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+        });
+    }
+
+    @Test
+    @DisplayName("Should raise exceptions from the fetcher to the consumer")
+    void shouldRaiseFetcherException() {
+        Ids ids = new Ids(100);
+        ids.failOnPage = 4;
+        Page<Long> first = ids.apply(PageRequest.of(Long.class).size(10));
+
+        Map<Long, Duration> latencies = new ConcurrentHashMap<>();
+
+        Stream<Long> all = Page.streamAll(first, ids, executor, 2,
+                (pageRequest, latency) -> latencies.put(pageRequest.page(), latency));
+        assertThatThrownBy(() -> all.forEach(id -> { }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("database unavailable");
+        assertThat(latencies).containsKey(4L);
+    }
+
+    @Test
+    @DisplayName("Should not request pages until the stream is consumed")
+    void shouldNotFetchBeforeConsumption() {
+        Ids ids = new Ids(100);
+        Page<Long> first = ids.apply(PageRequest.of(Long.class).size(10));
+
+        Page.streamAll(first, ids, executor, 4).close();
+        assertThat(ids.fetches.get()).isEqualTo(1);
+
+        try (Stream<Long> all = Page.streamAll(first, ids, executor, 4)) {
+            assertThat(all.iterator().next()).isEqualTo(1L);
+            assertThat(ids.fetches.get()).isLessThanOrEqualTo(5);
+        }
+    }
+
+    @Test
+    @DisplayName("Should report the number of remaining results from the total of the first page")
+    void shouldBeSized() {
+        Ids ids = new Ids(1005);
+        Page<Long> first = ids.apply(PageRequest.of(Long.class).size(10));
+        Page<Long> third = ids.apply(PageRequest.of(Long.class).size(10).page(3));
+
+        try (Stream<Long> all = Page.streamAll(first, ids, executor, 3);
+             Stream<Long> fromThird = Page.streamAll(third, ids, executor, 3)) {
+            Spliterator<Long> spliterator = all.spliterator();
+            spliterator.tryAdvance(id -> { });
+
+            assertSoftly(softly -> {
+                softly.assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isTrue();
+                softly.assertThat(spliterator.estimateSize()).isEqualTo(1004L);
+                softly.assertThat(fromThird.spliterator().getExactSizeIfKnown()).isEqualTo(985L);
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Should require totals, offset pagination, and positive concurrency")
+    void shouldRejectInvalidArguments() {
+        Ids ids = new Ids(100);
+        Page<Long> withTotals = ids.apply(PageRequest.of(Long.class).size(10));
+        Page<Long> withoutTotals = ids.apply(PageRequest.of(Long.class).size(10).withoutTotal());
+        Page<Long> keyset = new PageRecord<>(PageRequest.of(Long.class).size(10).afterKeyset(5L), List.of(6L), 100L);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> Page.streamAll(withoutTotals, ids, executor, 2));
+        assertThatIllegalArgumentException().isThrownBy(() -> Page.streamAll(keyset, ids, executor, 2));
+        assertThatIllegalArgumentException().isThrownBy(() -> Page.streamAll(withTotals, ids, executor, 0));
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class PrimitiveCursorTest {
+
+    @Test
+    @DisplayName("Should hold a single long key")
+    void shouldCreateSingleLongCursor() {
+        PageRequest.Cursor cursor = PageRequest.Cursor.forLong(1234L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(cursor.size()).isEqualTo(1);
+            softly.assertThat(cursor.getLong(0)).isEqualTo(1234L);
+            softly.assertThat(cursor.getKeysetElement(0)).isEqualTo(1234L);
+            softly.assertThat(cursor.elements().toArray()).containsExactly(1234L);
+            softly.assertThat(cursor).isEqualTo(PageRequest.Cursor.forLong(1234L));
+            softly.assertThat(cursor).isNotEqualTo(PageRequest.Cursor.forLong(1235L));
+            softly.assertThat(cursor).isNotEqualTo(PageRequest.Cursor.forLong(1234L, 0L));
+            softly.assertThat(cursor.hashCode()).isEqualTo(PageRequest.Cursor.forKeyset(1234L).hashCode());
+            softly.assertThat(cursor.toString()).endsWith(" with 1 keys");
+        });
+    }
+
+    @Test
+    @DisplayName("Should hold two int keys")
+    void shouldCreateTwoIntCursor() {
+        PageRequest.Cursor cursor = PageRequest.Cursor.forInt(7, -3);
+
+        assertSoftly(softly -> {
+            softly.assertThat(cursor.size()).isEqualTo(2);
+            softly.assertThat(cursor.getInt(0)).isEqualTo(7);
+            softly.assertThat(cursor.getInt(1)).isEqualTo(-3);
+            softly.assertThat(cursor.getLong(1)).isEqualTo(-3L);
+            softly.assertThat(cursor.getKeysetElement(1)).isEqualTo(-3);
+            softly.assertThat(cursor.elements().toArray()).containsExactly(7, -3);
+            softly.assertThat(cursor).isEqualTo(PageRequest.Cursor.forInt(7, -3));
+            softly.assertThat(cursor).isNotEqualTo(PageRequest.Cursor.forLong(7L, -3L));
+            softly.assertThat(cursor.hashCode()).isEqualTo(PageRequest.Cursor.forKeyset(7, -3).hashCode());
+        });
+    }
+
+    @Test
+    @DisplayName("Should match the hash code of a boxed keyset with two long keys")
+    void shouldHashLikeBoxedKeyset() {
+        assertSoftly(softly -> {
+            softly.assertThat(PageRequest.Cursor.forLong(Long.MAX_VALUE, Long.MIN_VALUE).hashCode())
+                    .isEqualTo(PageRequest.Cursor.forKeyset(Long.MAX_VALUE, Long.MIN_VALUE).hashCode());
+            softly.assertThat(PageRequest.Cursor.forInt(Integer.MIN_VALUE).hashCode())
+                    .isEqualTo(PageRequest.Cursor.forKeyset(Integer.MIN_VALUE).hashCode());
+        });
+    }
+
+    @Test
+    @DisplayName("Should equal cursors with the same keyset values regardless of how they were obtained")
+    void shouldCompareKeysetValues() {
+        PageRequest.Cursor cursor = PageRequest.Cursor.forLong(5L);
+        PageRequest.Cursor decoded = PageRequest.Cursor.decode(cursor.encode(), long.class);
+
+        assertSoftly(softly -> {
+            softly.assertThat(cursor).isEqualTo(PageRequest.Cursor.forKeyset(5L));
+            softly.assertThat(PageRequest.Cursor.forKeyset(5L)).isEqualTo(cursor);
+            softly.assertThat(cursor).isEqualTo(decoded);
+            softly.assertThat(decoded).isEqualTo(cursor);
+            softly.assertThat(PageRequest.Cursor.forInt(7, -3)).isEqualTo(PageRequest.Cursor.forKeyset(7, -3));
+            softly.assertThat(PageRequest.Cursor.forKeyset(7, -3)).isEqualTo(PageRequest.Cursor.forInt(7, -3));
+            softly.assertThat(cursor).isNotEqualTo(PageRequest.Cursor.forInt(5));
+            softly.assertThat(cursor).isNotEqualTo(PageRequest.Cursor.forKeyset(5));
+            softly.assertThat(cursor).isNotEqualTo(PageRequest.Cursor.forKeyset(5L, 6L));
+            softly.assertThat(PageRequest.ofSize(10).afterKeysetCursor(cursor))
+                    .isEqualTo(PageRequest.ofSize(10).afterKeyset(5L));
+        });
+    }
+
+    @Test
+    @DisplayName("Should reject positions outside of the keyset")
+    void shouldRejectInvalidIndex() {
+        assertThatThrownBy(() -> PageRequest.Cursor.forLong(1L).getKeysetElement(1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> PageRequest.Cursor.forInt(1, 2).getInt(2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> PageRequest.Cursor.forInt(1).getLong(-1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("Should convert boxed keyset values to primitives")
+    void shouldConvertBoxedKeysetValues() {
+        PageRequest.Cursor cursor = PageRequest.Cursor.forKeyset(5L, 6, (short) 7, "eight", null);
+
+        assertSoftly(softly -> {
+            softly.assertThat(cursor.getLong(0)).isEqualTo(5L);
+            softly.assertThat(cursor.getLong(1)).isEqualTo(6L);
+            softly.assertThat(cursor.getInt(2)).isEqualTo(7);
+            softly.assertThatThrownBy(() -> cursor.getInt(0)).isInstanceOf(ClassCastException.class);
+            softly.assertThatThrownBy(() -> cursor.getLong(3)).isInstanceOf(ClassCastException.class);
+            softly.assertThatThrownBy(() -> cursor.getLong(4)).isInstanceOf(NullPointerException.class);
+            softly.assertThatThrownBy(() -> PageRequest.Cursor.forLong(5L).getInt(0)).isInstanceOf(ClassCastException.class);
+        });
+    }
+
+    @Test
+    @DisplayName("Should encode and decode primitive cursors")
+    void shouldEncodePrimitiveCursor() {
+        String token = PageRequest.Cursor.forLong(99L, -1L).encode();
+
+        assertSoftly(softly -> {
+            softly.assertThat(token).isEqualTo(PageRequest.Cursor.forKeyset(99L, -1L).encode());
+            softly.assertThat(PageRequest.Cursor.decode(token, long.class, long.class))
+                    .isEqualTo(PageRequest.Cursor.forKeyset(99L, -1L));
+        });
+    }
+}
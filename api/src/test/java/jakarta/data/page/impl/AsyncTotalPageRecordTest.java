@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class AsyncTotalPageRecordTest {
+
+    @Test
+    @DisplayName("Should provide content without waiting for the total")
+    void shouldProvideContentBeforeTotal() {
+        CompletableFuture<Long> count = new CompletableFuture<>();
+        PageRequest<String> pageRequest = PageRequest.<String>ofSize(3).page(2);
+        Page<String> page = new AsyncTotalPageRecord<>(pageRequest, List.of("d", "e", "f"), count);
+
+        assertSoftly(softly -> {
+            softly.assertThat(page.content()).containsExactly("d", "e", "f");
+            softly.assertThat(page.stream()).containsExactly("d", "e", "f");
+            softly.assertThat(page.hasTotals()).isTrue();
+            softly.assertThat(page.hasNext()).isTrue();
+            softly.assertThat(page.hasPrevious()).isTrue();
+            softly.assertThat(page.nextPageRequest().page()).isEqualTo(3L);
+            softly.assertThat(count).isNotDone();
+        });
+
+        count.complete(8L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(page.totalElements()).isEqualTo(8L);
+            softly.assertThat(page.totalPages()).isEqualTo(3L);
+            softly.assertThat(page.totalElementsIsExact()).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("Should wait for a total that is computed concurrently")
+    void shouldWaitForTotal() {
+        PageRequest<Integer> pageRequest = PageRequest.ofSize(10);
+        Page<Integer> page = new AsyncTotalPageRecord<>(pageRequest, List.of(1, 2, 3),
+                CompletableFuture.supplyAsync(() -> 3L));
+
+        assertSoftly(softly -> {
+            softly.assertThat(page.hasNext()).isFalse();
+            softly.assertThat(page.totalElements()).isEqualTo(3L);
+            softly.assertThat(page.totalPages()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    @DisplayName("Should raise the failure of the total when the total is requested")
+    void shouldRaiseFailureOfTotal() {
+        PageRequest<Integer> pageRequest = PageRequest.ofSize(10);
+        Page<Integer> page = new AsyncTotalPageRecord<>(pageRequest, List.of(1, 2, 3),
+                CompletableFuture.failedFuture(new UnsupportedOperationException("count")));
+
+        assertSoftly(softly -> softly.assertThat(page.numberOfElements()).isEqualTo(3));
+        assertThatThrownBy(page::totalElements).isInstanceOf(UnsupportedOperationException.class).hasMessage("count");
+        assertThatThrownBy(page::totalPages).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Should report the total as not available when the count is cancelled")
+    void shouldNotHaveTotalWhenCountIsCancelled() {
+        CompletableFuture<Long> count = new CompletableFuture<>();
+        Page<Integer> page = new AsyncTotalPageRecord<>(PageRequest.ofSize(10), List.of(1, 2, 3), count);
+        Page<Integer> dependent = new AsyncTotalPageRecord<>(PageRequest.ofSize(10), List.of(1, 2, 3),
+                count.thenApply(n -> n));
+
+        count.cancel(true);
+
+        assertThatThrownBy(page::totalElements).isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(CancellationException.class);
+        assertThatThrownBy(dependent::totalPages).isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(CancellationException.class);
+    }
+
+    @Test
+    @DisplayName("Should not allow callers to complete the total of the page")
+    void shouldNotAllowCallersToCompleteTotal() {
+        CompletableFuture<Long> count = new CompletableFuture<>();
+        AsyncTotalPageRecord<Integer> page = new AsyncTotalPageRecord<>(PageRequest.ofSize(10), List.of(1, 2, 3), count);
+
+        page.total().toCompletableFuture().complete(99L);
+        page.total().toCompletableFuture().cancel(true);
+        count.complete(42L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(page.totalElements()).isEqualTo(42L);
+            softly.assertThat(page.total().toCompletableFuture().join()).isEqualTo(42L);
+            softly.assertThat(page).isEqualTo(new AsyncTotalPageRecord<>(PageRequest.ofSize(10), List.of(1, 2, 3), count));
+        });
+    }
+
+    @Test
+    @DisplayName("Should not have totals when no total is supplied")
+    void shouldNotHaveTotalsWithoutTotal() {
+        PageRequest<Integer> pageRequest = PageRequest.<Integer>ofSize(10).withoutTotal();
+        Page<Integer> page = new AsyncTotalPageRecord<>(pageRequest, List.of(1, 2, 3), null);
+        Page<Integer> unavailable = new AsyncTotalPageRecord<>(PageRequest.ofSize(10), List.of(1, 2, 3),
+                CompletableFuture.completedFuture(-1L));
+
+        assertSoftly(softly -> {
+            softly.assertThat(page.hasTotals()).isFalse();
+            softly.assertThat(page.totalElementsIsExact()).isFalse();
+        });
+        assertThatThrownBy(page::totalElements).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(unavailable::totalPages).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import jakarta.data.page.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class BoundaryCursorCacheTest {
+
+    private static final String QUERY = "findByNameStartsWith:A";
+
+    @Test
+    @DisplayName("Should seek from the nearest preceding boundary, skipping the results of intervening pages")
+    void shouldSeekFromNearestBoundary() {
+        BoundaryCursorCache cache = new BoundaryCursorCache(10);
+        PageRequest<Long> request = PageRequest.of(Long.class).size(20).asc("id").withKeysetSeek();
+        cache.put(QUERY, request, PageRequest.Cursor.forLong(20L));
+        cache.put(QUERY, request.page(2), PageRequest.Cursor.forLong(40L));
+        cache.put(QUERY, request.page(10), PageRequest.Cursor.forLong(200L));
+
+        assertSoftly(softly -> {
+            softly.assertThat(cache.seek(QUERY, request.page(3)))
+                    .hasValue(new BoundaryCursorCache.Seek(2L, PageRequest.Cursor.forLong(40L), 0L));
+            softly.assertThat(cache.seek(QUERY, request.page(2).next()))
+                    .hasValue(new BoundaryCursorCache.Seek(2L, PageRequest.Cursor.forLong(40L), 0L));
+            softly.assertThat(cache.seek(QUERY, request.page(6)))
+                    .hasValue(new BoundaryCursorCache.Seek(2L, PageRequest.Cursor.forLong(40L), 60L));
+            softly.assertThat(cache.seek(QUERY, request.page(5000)))
+                    .hasValue(new BoundaryCursorCache.Seek(10L, PageRequest.Cursor.forLong(200L), 99_780L));
+            softly.assertThat(cache.seek(QUERY, request)).isEmpty();
+            softly.assertThat(cache.size()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    @DisplayName("Should use boundaries only for the same query, shape, and size with keyset seek enabled")
+    void shouldSeparateBoundariesByQueryShapeAndSize() {
+        BoundaryCursorCache cache = new BoundaryCursorCache(10);
+        PageRequest<Long> request = PageRequest.of(Long.class).size(20).asc("id").withKeysetSeek();
+        cache.put(QUERY, request, PageRequest.Cursor.forLong(20L));
+        cache.put(QUERY, request.withoutTotal().page(2).size(10).desc("name").page(2), PageRequest.Cursor.forLong(99L));
+        cache.put(QUERY, PageRequest.of(Long.class).size(20).asc("id"), PageRequest.Cursor.forLong(21L));
+
+        assertSoftly(softly -> {
+            softly.assertThat(cache.seek("findByNameStartsWith:B", request.page(2))).isEmpty();
+            softly.assertThat(cache.seek(QUERY, request.page(2).size(10))).isEmpty();
+            softly.assertThat(cache.seek(QUERY, request.page(2).desc("name"))).isEmpty();
+            softly.assertThat(cache.seek(QUERY, PageRequest.of(Long.class).page(2).size(20).asc("id"))).isEmpty();
+            softly.assertThat(cache.seek(QUERY, request.page(2).afterKeyset(20L))).isEmpty();
+            softly.assertThat(cache.seek(QUERY, request.page(2)))
+                    .hasValue(new BoundaryCursorCache.Seek(1L, PageRequest.Cursor.forLong(20L), 0L));
+            softly.assertThat(cache.size()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used boundary when full")
+    void shouldEvictLeastRecentlyUsed() {
+        BoundaryCursorCache cache = new BoundaryCursorCache(2);
+        PageRequest<Long> request = PageRequest.of(Long.class).size(10).asc("id").withKeysetSeek();
+        cache.put(QUERY, request, PageRequest.Cursor.forLong(10L));
+        cache.put(QUERY, request.page(2), PageRequest.Cursor.forLong(20L));
+        cache.seek(QUERY, request.page(2)); // uses the boundary of page 1
+        cache.put(QUERY, request.page(3), PageRequest.Cursor.forLong(30L));
+
+        assertSoftly(softly -> {
+            softly.assertThat(cache.size()).isEqualTo(2);
+            softly.assertThat(cache.seek(QUERY, request.page(3)))
+                    .hasValue(new BoundaryCursorCache.Seek(1L, PageRequest.Cursor.forLong(10L), 10L));
+            softly.assertThat(cache.seek(QUERY, request.page(4)))
+                    .hasValue(new BoundaryCursorCache.Seek(3L, PageRequest.Cursor.forLong(30L), 0L));
+        });
+
+        cache.clear();
+        assertSoftly(softly -> {
+            softly.assertThat(cache.size()).isZero();
+            softly.assertThat(cache.seek(QUERY, request.page(4))).isEmpty();
+        });
+        assertThatIllegalArgumentException().isThrownBy(() -> new BoundaryCursorCache(0));
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.PageRequest;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class CursoredPageRecordTest {
+
+    private static List<PageRequest.Cursor> cursors(List<Long> ids) {
+        return ids.stream().map(PageRequest.Cursor::forLong).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Paging forward, the lookahead result is the last result and indicates a next page.")
+    void shouldUseLookaheadResultForNextPage() {
+        PageRequest<Long> request = PageRequest.of(Long.class).page(2).size(3).afterKeyset(30L).withoutTotal();
+
+        List<Long> more = List.of(31L, 32L, 33L, 34L);
+        CursoredPage<Long> page = CursoredPageRecord.ofLookahead(more, cursors(more), -1L, request);
+        List<Long> last = List.of(31L, 32L, 33L);
+        CursoredPage<Long> lastPage = CursoredPageRecord.ofLookahead(last, cursors(last), -1L, request);
+        CursoredPage<Long> lazyPage = LazyCursoredPageRecord.ofLookahead(more, PageRequest.Cursor::forLong, -1L, request);
+        CursoredPage<Long> lazyLastPage = LazyCursoredPageRecord.ofLookahead(last, PageRequest.Cursor::forLong, -1L, request);
+
+        assertSoftly(softly -> {
+            softly.assertThat(page.content()).containsExactly(31L, 32L, 33L);
+            softly.assertThat(page.getKeysetCursor(2)).isEqualTo(PageRequest.Cursor.forLong(33L));
+            softly.assertThat(page.nextPageRequest())
+                    .isEqualTo(request.page(3).afterKeysetCursor(PageRequest.Cursor.forLong(33L)));
+            softly.assertThat(page.previousPageRequest())
+                    .isEqualTo(request.page(1).beforeKeysetCursor(PageRequest.Cursor.forLong(31L)));
+            softly.assertThat(lastPage.content()).containsExactly(31L, 32L, 33L);
+            softly.assertThat(lastPage.hasNext()).isFalse();
+            softly.assertThat(lastPage.hasPrevious()).isTrue();
+
+            softly.assertThat(lazyPage.content()).containsExactly(31L, 32L, 33L);
+            softly.assertThat(lazyPage.nextPageRequest()).isEqualTo(page.nextPageRequest());
+            softly.assertThat(lazyLastPage.hasNext()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("Paging backward, the lookahead result is the first result and indicates a previous page.")
+    void shouldUseLookaheadResultForPreviousPage() {
+        PageRequest<Long> request = PageRequest.of(Long.class).page(2).size(3).beforeKeyset(34L).withoutTotal();
+
+        List<Long> more = List.of(30L, 31L, 32L, 33L);
+        CursoredPage<Long> page = CursoredPageRecord.ofLookahead(more, cursors(more), -1L, request);
+        List<Long> first = List.of(31L, 32L, 33L);
+        CursoredPage<Long> firstPage = CursoredPageRecord.ofLookahead(first, cursors(first), -1L, request);
+
+        assertSoftly(softly -> {
+            softly.assertThat(page.content()).containsExactly(31L, 32L, 33L);
+            softly.assertThat(page.getKeysetCursor(0)).isEqualTo(PageRequest.Cursor.forLong(31L));
+            softly.assertThat(page.hasPrevious()).isTrue();
+            softly.assertThat(page.hasNext()).isTrue();
+            softly.assertThat(firstPage.hasPrevious()).isFalse();
+            softly.assertThat(firstPage.nextPageRequest())
+                    .isEqualTo(request.page(3).afterKeysetCursor(PageRequest.Cursor.forLong(33L)));
+        });
+    }
+
+    @Test
+    @DisplayName("The total of the page is supplied as the known total of the next and previous page requests.")
+    void shouldSupplyKnownTotalToAdjacentPageRequests() {
+        PageRequest<Long> request = PageRequest.of(Long.class).page(2).size(3).afterKeyset(30L);
+        PageRequest<Long> next = request.page(3).afterKeyset(33L);
+        PageRequest<Long> previous = request.page(1).beforeKeyset(31L);
+        List<Long> content = List.of(31L, 32L, 33L);
+
+        CursoredPage<Long> page = CursoredPageRecord.of(content, cursors(content), 40L, request, next, previous);
+        CursoredPage<Long> lazyPage = new LazyCursoredPageRecord<>(content, PageRequest.Cursor::forLong, 40L, request,
+                true, true);
+        CursoredPage<Long> inlinePage = CursoredPageRecord.ofLookahead(content, cursors(content), 40L,
+                request.withInlineTotal());
+        CursoredPage<Long> withoutTotal = CursoredPageRecord.of(content, cursors(content), -1L,
+                request.withoutTotal(), next.withoutTotal(), previous.withoutTotal());
+
+        assertSoftly(softly -> {
+            softly.assertThat(page.nextPageRequest().knownTotal()).hasValue(40L);
+            softly.assertThat(inlinePage.previousPageRequest().knownTotal()).hasValue(40L);
+            softly.assertThat(page.previousPageRequest().knownTotal()).hasValue(40L);
+            softly.assertThat(page.nextPageRequest().cursor()).isEqualTo(next.cursor());
+            softly.assertThat(lazyPage.nextPageRequest().knownTotal()).hasValue(40L);
+            softly.assertThat(lazyPage.previousPageRequest().knownTotal()).hasValue(40L);
+            softly.assertThat(lazyPage.getKeysetCursor(2)).isEqualTo(PageRequest.Cursor.forLong(33L));
+            softly.assertThat(withoutTotal.nextPageRequest().knownTotal()).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("The canonical constructors keep the page requests that are supplied.")
+    void shouldKeepSuppliedPageRequestsInCanonicalConstructor() {
+        PageRequest<Long> request = PageRequest.of(Long.class).page(2).size(3).afterKeyset(30L);
+        PageRequest<Long> next = request.page(3).afterKeyset(33L);
+        PageRequest<Long> previous = request.page(1).beforeKeyset(31L);
+        List<Long> content = List.of(31L, 32L, 33L);
+
+        CursoredPageRecord<Long> page = new CursoredPageRecord<>(content, cursors(content), 40L, request, next, previous);
+        LazyCursoredPageRecord<Long> lazyPage = new LazyCursoredPageRecord<>(content, PageRequest.Cursor::forLong, 40L,
+                request, next, previous);
+
+        assertSoftly(softly -> {
+            softly.assertThat(page.nextPageRequest()).isSameAs(next);
+            softly.assertThat(page.previousPageRequest()).isSameAs(previous);
+            softly.assertThat(page).isEqualTo(new CursoredPageRecord<>(content, cursors(content), 40L, request,
+                    next, previous));
+            softly.assertThat(lazyPage.nextPageRequest()).isSameAs(next);
+            softly.assertThat(lazyPage.previousPageRequest()).isSameAs(previous);
+        });
+    }
+
+    @Test
+    @DisplayName("An estimated or capped total is not supplied as the known total of adjacent page requests.")
+    void shouldNotSupplyEstimatedOrCappedTotal() {
+        PageRequest<Long> estimated = PageRequest.of(Long.class).page(2).size(3).afterKeyset(30L).withEstimatedTotal();
+        PageRequest<Long> capped = PageRequest.of(Long.class).page(2).size(3).afterKeyset(30L).withCappedTotal(100L);
+        List<Long> content = List.of(31L, 32L, 33L);
+
+        CursoredPage<Long> estimatedPage = CursoredPageRecord.of(content, cursors(content), 40L, estimated,
+                estimated.page(3).afterKeyset(33L), estimated.page(1).beforeKeyset(31L));
+        CursoredPage<Long> cappedPage = CursoredPageRecord.ofLookahead(content, cursors(content), 40L, capped);
+        CursoredPage<Long> lazyEstimatedPage = new LazyCursoredPageRecord<>(content, PageRequest.Cursor::forLong, 40L,
+                estimated, true, true);
+        CursoredPage<Long> lazyCappedPage = LazyCursoredPageRecord.ofLookahead(content, PageRequest.Cursor::forLong,
+                40L, capped);
+
+        assertSoftly(softly -> {
+            softly.assertThat(estimatedPage.nextPageRequest().knownTotal()).isEmpty();
+            softly.assertThat(estimatedPage.previousPageRequest().knownTotal()).isEmpty();
+            softly.assertThat(estimatedPage.nextPageRequest().totalMode()).isEqualTo(PageRequest.TotalMode.ESTIMATED);
+            softly.assertThat(cappedPage.previousPageRequest().knownTotal()).isEmpty();
+            softly.assertThat(cappedPage.previousPageRequest().totalCap()).isEqualTo(100L);
+            softly.assertThat(lazyEstimatedPage.nextPageRequest().knownTotal()).isEmpty();
+            softly.assertThat(lazyCappedPage.previousPageRequest().knownTotal()).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("The first page requested with offset pagination has no previous page.")
+    void shouldOmitPreviousPageForFirstPage() {
+        PageRequest<Long> request = PageRequest.of(Long.class).size(2).withoutTotal();
+        List<Long> fetched = List.of(1L, 2L, 3L);
+        CursoredPage<Long> page = CursoredPageRecord.ofLookahead(fetched, cursors(fetched), -1L, request);
+
+        assertSoftly(softly -> {
+            softly.assertThat(page.content()).containsExactly(1L, 2L);
+            softly.assertThat(page.hasPrevious()).isFalse();
+            softly.assertThat(page.hasNext()).isTrue();
+        });
+        assertThatThrownBy(() -> CursoredPageRecord.ofLookahead(fetched, cursors(List.of(1L, 2L)), -1L, request))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursoredPageRecord.ofLookahead(List.of(1L, 2L, 3L, 4L),
+                cursors(List.of(1L, 2L, 3L, 4L)), -1L, request))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.page.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import jakarta.data.page.PageRequest;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class LazyCursoredPageRecordTest {
+
+    @Test
+    @DisplayName("Cursors are computed only for the first and last results until others are requested.")
+    void shouldComputeCursorsOnDemand() {
+        AtomicInteger computed = new AtomicInteger();
+        Function<Long, PageRequest.Cursor> extractor = id -> {
+            computed.incrementAndGet();
+            return PageRequest.Cursor.forLong(id);
+        };
+
+        PageRequest<Long> page2Request = PageRequest.of(Long.class).page(2).size(4).afterKeyset(40L);
+        List<Long> content = List.of(41L, 42L, 43L, 44L);
+        LazyCursoredPageRecord<Long> page2 = new LazyCursoredPageRecord<>(content, extractor, -1L, page2Request, true, true);
+
+        assertSoftly(softly -> {
+            softly.assertThat(computed.get()).isEqualTo(2);
+            softly.assertThat(page2.getKeysetCursor(0)).isEqualTo(PageRequest.Cursor.forLong(41L));
+            softly.assertThat(page2.getKeysetCursor(3)).isEqualTo(PageRequest.Cursor.forLong(44L));
+            softly.assertThat(computed.get()).isEqualTo(2);
+            softly.assertThat(page2.getKeysetCursor(1)).isEqualTo(PageRequest.Cursor.forLong(42L));
+            softly.assertThat(computed.get()).isEqualTo(3);
+            softly.assertThat(page2.nextPageRequest())
+                    .isEqualTo(PageRequest.of(Long.class).page(3).size(4).afterKeysetCursor(PageRequest.Cursor.forLong(44L)));
+            softly.assertThat(page2.previousPageRequest())
+                    .isEqualTo(PageRequest.of(Long.class).page(1).size(4).beforeKeysetCursor(PageRequest.Cursor.forLong(41L)));
+            softly.assertThat(page2.hasTotals()).isFalse();
+            softly.assertThat(page2.numberOfElements()).isEqualTo(4);
+        });
+        assertThatThrownBy(() -> page2.getKeysetCursor(4)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(page2::totalElements).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("The first page has no previous page request and the last page has no next page request.")
+    void shouldOmitUnavailablePageRequests() {
+        PageRequest<Long> first = PageRequest.of(Long.class).size(3);
+        LazyCursoredPageRecord<Long> page1 = new LazyCursoredPageRecord<>(List.of(1L, 2L, 3L),
+                PageRequest.Cursor::forLong, 5L, first, true, false);
+        LazyCursoredPageRecord<Long> page2 = new LazyCursoredPageRecord<>(List.of(4L, 5L),
+                PageRequest.Cursor::forLong, 5L, page1.nextPageRequest(), false, true);
+        LazyCursoredPageRecord<Long> empty = new LazyCursoredPageRecord<>(List.of(),
+                PageRequest.Cursor::forLong, 5L, first.page(3), true, true);
+
+        assertSoftly(softly -> {
+            softly.assertThat(page1.hasPrevious()).isFalse();
+            softly.assertThat(page1.hasNext()).isTrue();
+            softly.assertThat(page1.getKeysetCursor(1)).isEqualTo(PageRequest.Cursor.forLong(2L));
+            softly.assertThat(page2.hasNext()).isFalse();
+            softly.assertThat(page2.hasPrevious()).isTrue();
+            softly.assertThat(page2.totalPages()).isEqualTo(2L);
+            softly.assertThat(empty.hasNext()).isFalse();
+            softly.assertThat(empty.hasPrevious()).isFalse();
+        });
+        assertThatThrownBy(page1::previousPageRequest).isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(page2::nextPageRequest).isInstanceOf(NoSuchElementException.class);
+    }
+}
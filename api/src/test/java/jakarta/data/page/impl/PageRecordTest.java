@@ -20,10 +20,15 @@ package jakarta.data.page.impl;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import jakarta.data.page.Page;
 import jakarta.data.page.PageRequest;
 
+import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
@@ -111,5 +116,101 @@ class PageRecordTest {
             softly.assertThat(page3.totalPages()).isEqualTo(4);
         });
     }
+    @Test
+    @DisplayName("Should exclude the lookahead result and know exactly whether there is a next page")
+    void shouldUseLookaheadResult() {
+        PageRequest<Integer> pageRequest = PageRequest.<Integer>ofSize(3).page(2).withoutTotal();
+
+        PageRecord<Integer> notLast = PageRecord.ofLookahead(pageRequest, List.of(4, 5, 6, 7), -1);
+        PageRecord<Integer> fullLast = PageRecord.ofLookahead(pageRequest, List.of(4, 5, 6), -1);
+        PageRecord<Integer> partialLast = PageRecord.ofLookahead(pageRequest, List.of(4, 5), -1);
+
+        assertSoftly(softly -> {
+            softly.assertThat(notLast.content()).containsExactly(4, 5, 6);
+            softly.assertThat(notLast.hasNext()).isTrue();
+            softly.assertThat(notLast.nextPageRequest().page()).isEqualTo(3L);
+            softly.assertThat(fullLast.content()).containsExactly(4, 5, 6);
+            softly.assertThat(fullLast.hasNext()).isFalse();
+            softly.assertThat(partialLast.content()).containsExactly(4, 5);
+            softly.assertThat(partialLast.hasNext()).isFalse();
+            softly.assertThat(partialLast.hasPrevious()).isTrue();
+        });
+
+        assertThatThrownBy(() -> PageRecord.ofLookahead(pageRequest, List.of(4, 5, 6, 7, 8), -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should report whether the total is exact or capped according to the total mode")
+    void shouldReportExactAndCappedTotals() {
+        List<Integer> content = List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        PageRequest<Integer> pageRequest = PageRequest.<Integer>ofSize(10).page(2);
+
+        Page<Integer> exact = new PageRecord<>(pageRequest, content, 43);
+        Page<Integer> estimated = new PageRecord<>(pageRequest.withEstimatedTotal(), content, 15);
+        Page<Integer> capped = new PageRecord<>(pageRequest.withCappedTotal(20), content, 20);
+        Page<Integer> underCap = new PageRecord<>(pageRequest.withCappedTotal(50), content, 43);
+        Page<Integer> withoutTotal = new PageRecord<>(pageRequest.withoutTotal(), content, -1);
+        Page<Integer> inline = new PageRecord<>(pageRequest.withInlineTotal(), content, 20);
+
+        assertSoftly(softly -> {
+            softly.assertThat(exact.totalElementsIsExact()).isTrue();
+            softly.assertThat(exact.isCapped()).isFalse();
+            softly.assertThat(exact.hasNext()).isTrue();
+
+            softly.assertThat(estimated.totalElementsIsExact()).isFalse();
+            softly.assertThat(estimated.isCapped()).isFalse();
+            softly.assertThat(estimated.hasNext()).as("an estimate does not rule out a next page").isTrue();
+
+            softly.assertThat(capped.totalElementsIsExact()).isFalse();
+            softly.assertThat(capped.isCapped()).isTrue();
+            softly.assertThat(capped.totalElements()).isEqualTo(20L);
+            softly.assertThat(capped.hasNext()).as("a capped total does not rule out a next page").isTrue();
+
+            softly.assertThat(underCap.totalElementsIsExact()).isTrue();
+            softly.assertThat(underCap.isCapped()).isFalse();
+
+            softly.assertThat(withoutTotal.totalElementsIsExact()).isFalse();
+            softly.assertThat(withoutTotal.isCapped()).isFalse();
 
+            softly.assertThat(inline.totalElementsIsExact()).isTrue();
+            softly.assertThat(inline.hasNext()).as("an exact inline total rules out a next page").isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("Page content is streamed with a sized spliterator that splits evenly.")
+    void shouldProvideSizedSpliterator() {
+        PageRequest<Integer> pageRequest = PageRequest.of(Integer.class).size(10_000);
+        List<Integer> content = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+        PageRecord<Integer> page = new PageRecord<>(pageRequest, content, 10_000L);
+
+        Spliterator<Integer> spliterator = page.spliterator();
+        Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertSoftly(softly -> {
+            softly.assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isTrue();
+            softly.assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED)).isTrue();
+            softly.assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+            softly.assertThat(spliterator.hasCharacteristics(Spliterator.IMMUTABLE)).isFalse();
+            softly.assertThat(prefix.getExactSizeIfKnown()).isEqualTo(5_000L);
+            softly.assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(5_000L);
+            softly.assertThat(page.stream().collect(Collectors.toList())).isEqualTo(content);
+            softly.assertThat(page.parallelStream().map(i -> i * 2).collect(Collectors.toList()))
+                    .isEqualTo(content.stream().map(i -> i * 2).collect(Collectors.toList()));
+            softly.assertThat(page.parallelStream().isParallel()).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("Page content that is not a random access list is streamed with a sized spliterator.")
+    void shouldProvideSizedSpliteratorForLinkedList() {
+        PageRequest<String> pageRequest = PageRequest.of(String.class).size(3);
+        PageRecord<String> page = new PageRecord<>(pageRequest, new LinkedList<>(List.of("A", "B", "C")), 3L);
+
+        assertSoftly(softly -> {
+            softly.assertThat(page.spliterator().getExactSizeIfKnown()).isEqualTo(3L);
+            softly.assertThat(page.stream().toArray()).containsExactly("A", "B", "C");
+        });
+    }
 }
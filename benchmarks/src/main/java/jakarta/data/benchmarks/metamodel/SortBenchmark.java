@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.benchmarks.metamodel;
+
+import jakarta.data.Order;
+import jakarta.data.Sort;
+import jakarta.data.metamodel.SortableAttribute;
+import jakarta.data.metamodel.TextAttribute;
+import jakarta.data.metamodel.impl.PrecomputedSortableAttribute;
+import jakarta.data.metamodel.impl.PrecomputedTextAttribute;
+import jakarta.data.metamodel.impl.SortableAttributeRecord;
+import jakarta.data.metamodel.impl.TextAttributeRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-query cost of obtaining sort criteria from a static
+ * metamodel with precomputed {@link Sort} instances, compared with the
+ * attribute records and the static methods of {@code Sort}, which allocate
+ * new instances on every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SortBenchmark {
+
+    private String lastName = "lastName";
+    private String firstName = "firstName";
+    private String id = "id";
+
+    @Benchmark
+    public Order<Person> newSorts() {
+        return Order.by(new Sort<>(lastName, true, false),
+                        new Sort<>(firstName, true, true),
+                        new Sort<>(id, false, false));
+    }
+
+    @Benchmark
+    public Order<Person> sortFactoryMethods() {
+        return Order.by(Sort.asc(lastName),
+                        Sort.ascIgnoreCase(firstName),
+                        Sort.desc(id));
+    }
+
+    @Benchmark
+    public Order<Person> recordMetamodel() {
+        return Order.by(_PersonRecords.lastName.asc(),
+                        _PersonRecords.firstName.ascIgnoreCase(),
+                        _PersonRecords.id.desc());
+    }
+
+    @Benchmark
+    public Order<Person> staticMetamodel() {
+        return Order.by(_Person.lastName.asc(),
+                        _Person.firstName.ascIgnoreCase(),
+                        _Person.id.desc());
+    }
+
+    /**
+     * Entity type used only to parameterize the sort criteria.
+     */
+    public static class Person {
+    }
+
+    /**
+     * Static metamodel for {@link Person}, as an annotation processor would generate it.
+     */
+    public static final class _Person {
+        public static final TextAttribute<Person> lastName = new PrecomputedTextAttribute<>("lastName");
+        public static final TextAttribute<Person> firstName = new PrecomputedTextAttribute<>("firstName");
+        public static final SortableAttribute<Person> id = new PrecomputedSortableAttribute<>("id");
+
+        private _Person() {
+        }
+    }
+
+    /**
+     * Static metamodel for {@link Person} that is written by hand with attribute records.
+     */
+    public static final class _PersonRecords {
+        public static final TextAttribute<Person> lastName = new TextAttributeRecord<>("lastName");
+        public static final TextAttribute<Person> firstName = new TextAttributeRecord<>("firstName");
+        public static final SortableAttribute<Person> id = new SortableAttributeRecord<>("id");
+
+        private _PersonRecords() {
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+
+/**
+ * <p>JMH benchmarks for the built-in implementations of the Jakarta Data API.</p>
+ *
+ * <p>The benchmarks are packaged into {@code target/benchmarks.jar} and are
+ * run from the command line, for example:</p>
+ *
+ * <pre>
+ * mvn -pl api,benchmarks package
+ * java -jar benchmarks/target/benchmarks.jar -prof gc
+ * </pre>
+ *
+ * <p>The {@code gc} profiler reports the allocation rate
+ * ({@code gc.alloc.rate.norm}, in bytes per operation) alongside the
+ * average time per operation, so that both kinds of regression are visible.</p>
+ */
+package jakarta.data.benchmarks;
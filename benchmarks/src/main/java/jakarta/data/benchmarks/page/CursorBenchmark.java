@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.benchmarks.page;
+
+import jakarta.data.page.PageRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of creating one keyset cursor per row of a page
+ * with a {@code long} identifier, boxed versus primitive.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CursorBenchmark {
+
+    static final int PAGE_SIZE = 50;
+
+    private long firstId;
+    private PageRequest.Cursor boxed;
+    private PageRequest.Cursor boxedCopy;
+    private PageRequest.Cursor primitive;
+    private PageRequest.Cursor primitiveCopy;
+
+    @Setup
+    public void setup() {
+        firstId = 1_000_000L;
+        boxed = PageRequest.Cursor.forKeyset(firstId);
+        boxedCopy = PageRequest.Cursor.forKeyset(firstId);
+        primitive = PageRequest.Cursor.forLong(firstId);
+        primitiveCopy = PageRequest.Cursor.forLong(firstId);
+    }
+
+    @Benchmark
+    public List<PageRequest.Cursor> pageOfBoxedCursors() {
+        List<PageRequest.Cursor> cursors = new ArrayList<>(PAGE_SIZE);
+        for (long id = firstId; id < firstId + PAGE_SIZE; id++) {
+            cursors.add(PageRequest.Cursor.forKeyset(id));
+        }
+        return cursors;
+    }
+
+    @Benchmark
+    public List<PageRequest.Cursor> pageOfLongCursors() {
+        List<PageRequest.Cursor> cursors = new ArrayList<>(PAGE_SIZE);
+        for (long id = firstId; id < firstId + PAGE_SIZE; id++) {
+            cursors.add(PageRequest.Cursor.forLong(id));
+        }
+        return cursors;
+    }
+
+    @Benchmark
+    public boolean equalsBoxed() {
+        return boxed.equals(boxedCopy);
+    }
+
+    @Benchmark
+    public boolean equalsLong() {
+        return primitive.equals(primitiveCopy);
+    }
+
+    @Benchmark
+    public int hashCodeBoxed() {
+        return boxed.hashCode();
+    }
+
+    @Benchmark
+    public int hashCodeLong() {
+        return primitive.hashCode();
+    }
+}
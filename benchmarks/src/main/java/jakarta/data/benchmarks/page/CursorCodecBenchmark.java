@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.benchmarks.page;
+
+import jakarta.data.page.PageRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link PageRequest.Cursor#encode()} and
+ * {@link PageRequest.Cursor#decode(String, Class...)} with a naive JSON
+ * encoding of the same keyset, as services tend to write by hand.
+ * The token lengths are printed during setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CursorCodecBenchmark {
+
+    private static final Class<?>[] TYPES = { Instant.class, String.class, BigDecimal.class, UUID.class, long.class };
+
+    private PageRequest.Cursor cursor;
+    private String token;
+    private String jsonToken;
+
+    @Setup
+    public void setup() {
+        cursor = PageRequest.Cursor.forKeyset(Instant.parse("2024-03-01T12:30:45.123Z"),
+                "Smith",
+                new BigDecimal("1299.95"),
+                UUID.fromString("123e4567-e89b-12d3-a456-426614174000"),
+                1234567L);
+        token = cursor.encode();
+        jsonToken = NaiveJson.encode(cursor);
+        System.out.println("\nToken length: binary=" + token.length() + ", JSON=" + jsonToken.length());
+    }
+
+    @Benchmark
+    public String encodeBinary() {
+        return cursor.encode();
+    }
+
+    @Benchmark
+    public PageRequest.Cursor decodeBinary() {
+        return PageRequest.Cursor.decode(token, TYPES);
+    }
+
+    @Benchmark
+    public String encodeJson() {
+        return NaiveJson.encode(cursor);
+    }
+
+    @Benchmark
+    public PageRequest.Cursor decodeJson() {
+        return NaiveJson.decode(jsonToken);
+    }
+
+    /**
+     * Encodes each keyset value as a JSON object with its type name and
+     * string form, and Base64url-encodes the resulting array.
+     */
+    static final class NaiveJson {
+
+        private NaiveJson() {
+        }
+
+        static String encode(PageRequest.Cursor cursor) {
+            StringBuilder json = new StringBuilder("[");
+            for (int i = 0; i < cursor.size(); i++) {
+                Object value = cursor.getKeysetElement(i);
+                if (i > 0) {
+                    json.append(',');
+                }
+                json.append("{\"type\":\"").append(value.getClass().getName())
+                        .append("\",\"value\":\"");
+                escape(String.valueOf(value), json);
+                json.append("\"}");
+            }
+            json.append(']');
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(json.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        static PageRequest.Cursor decode(String token) {
+            String json = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            List<Object> keyset = new ArrayList<>();
+            int[] position = { 0 };
+            while (true) {
+                String key = nextString(json, position);
+                if (key == null) {
+                    break;
+                }
+                String type = nextString(json, position);
+                nextString(json, position);
+                String value = nextString(json, position);
+                keyset.add(parse(type, value));
+            }
+            return PageRequest.Cursor.forKeyset(keyset.toArray());
+        }
+
+        private static Object parse(String type, String value) {
+            switch (type) {
+                case "java.lang.Long":
+                    return Long.valueOf(value);
+                case "java.lang.Integer":
+                    return Integer.valueOf(value);
+                case "java.lang.String":
+                    return value;
+                case "java.util.UUID":
+                    return UUID.fromString(value);
+                case "java.time.Instant":
+                    return Instant.parse(value);
+                case "java.math.BigDecimal":
+                    return new BigDecimal(value);
+                default:
+                    throw new IllegalArgumentException(type);
+            }
+        }
+
+        private static void escape(String value, StringBuilder json) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    json.append('\\');
+                }
+                json.append(c);
+            }
+        }
+
+        private static String nextString(String json, int[] position) {
+            int start = json.indexOf('"', position[0]);
+            if (start < 0) {
+                return null;
+            }
+            StringBuilder s = new StringBuilder();
+            int i = start + 1;
+            for (char c = json.charAt(i); c != '"'; c = json.charAt(++i)) {
+                if (c == '\\') {
+                    c = json.charAt(++i);
+                }
+                s.append(c);
+            }
+            position[0] = i + 1;
+            return s.toString();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.benchmarks.page;
+
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.PageRequest;
+import jakarta.data.page.impl.CursoredPageRecord;
+import jakarta.data.page.impl.LazyCursoredPageRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building a {@link CursoredPage} and obtaining its next page
+ * request, with a cursor per result versus cursors computed on demand.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CursoredPageBenchmark {
+
+    @Param({ "100", "1000" })
+    private int pageSize;
+
+    private List<Person> content;
+    private PageRequest<Person> pageRequest;
+
+    @Setup
+    public void setup() {
+        content = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            content.add(new Person(1000L + i, "Last" + i % 17, "First" + i));
+        }
+        pageRequest = PageRequest.of(Person.class).size(pageSize).asc("lastName").asc("id");
+    }
+
+    @Benchmark
+    public PageRequest<Person> cursorPerResult() {
+        List<PageRequest.Cursor> cursors = new ArrayList<>(content.size());
+        for (Person p : content) {
+            cursors.add(PageRequest.Cursor.forKeyset(p.lastName, p.id));
+        }
+        PageRequest.Cursor first = cursors.get(0);
+        PageRequest.Cursor last = cursors.get(cursors.size() - 1);
+        CursoredPage<Person> page = new CursoredPageRecord<>(content, cursors, -1L, pageRequest,
+                pageRequest.page(2).afterKeysetCursor(last),
+                pageRequest.beforeKeysetCursor(first));
+        return page.nextPageRequest();
+    }
+
+    @Benchmark
+    public PageRequest<Person> cursorOnDemand() {
+        CursoredPage<Person> page = new LazyCursoredPageRecord<>(content,
+                p -> PageRequest.Cursor.forKeyset(p.lastName, p.id),
+                -1L, pageRequest, true, true);
+        return page.nextPageRequest();
+    }
+
+    /**
+     * Entity with a two-attribute keyset.
+     */
+    public static class Person {
+        final long id;
+        final String lastName;
+        final String firstName;
+
+        Person(long id, String lastName, String firstName) {
+            this.id = id;
+            this.lastName = lastName;
+            this.firstName = firstName;
+        }
+    }
+}
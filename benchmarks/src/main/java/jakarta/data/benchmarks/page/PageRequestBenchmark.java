@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.benchmarks.page;
+
+import jakarta.data.Sort;
+import jakarta.data.page.PageRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of building and navigating a {@link PageRequest}
+ * the way a typical REST endpoint does on every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PageRequestBenchmark {
+
+    /**
+     * Number of times {@code next()} or {@code previous()} is applied.
+     */
+    static final int CHAIN_LENGTH = 10;
+
+    private long page;
+    private int size;
+    private String lastName;
+    private long id;
+
+    private PageRequest.Builder<Person> builder;
+
+    private PageRequest<Person> request;
+    private PageRequest<Person> equalRequest;
+    private PageRequest<Person> keysetRequest;
+
+    private Map<PageRequest.Shape, String> statements;
+
+    @Setup
+    public void setup() {
+        page = 3L;
+        size = 25;
+        lastName = "Smith";
+        id = 1234L;
+
+        builder = PageRequest.builder(Person.class);
+
+        request = threeSorts();
+        equalRequest = threeSorts();
+        keysetRequest = threeSortsAfterKeyset();
+
+        statements = new HashMap<>();
+        statements.put(request.shape(), "offset statement");
+        statements.put(keysetRequest.shape(), "keyset statement");
+    }
+
+    @Benchmark
+    public PageRequest<Person> threeSorts() {
+        return PageRequest.of(Person.class)
+                .page(page)
+                .size(size)
+                .asc("lastName")
+                .ascIgnoreCase("firstName")
+                .desc("id");
+    }
+
+    @Benchmark
+    public PageRequest<Person> fiveSorts() {
+        return PageRequest.of(Person.class)
+                .page(page)
+                .size(size)
+                .asc("lastName")
+                .ascIgnoreCase("firstName")
+                .desc("birthYear")
+                .descIgnoreCase("city")
+                .asc("id");
+    }
+
+    @Benchmark
+    public PageRequest<Person> fiveSortsAtOnce() {
+        return PageRequest.of(Person.class)
+                .page(page)
+                .size(size)
+                .sortBy(Sort.asc("lastName"),
+                        Sort.ascIgnoreCase("firstName"),
+                        Sort.desc("birthYear"),
+                        Sort.descIgnoreCase("city"),
+                        Sort.asc("id"));
+    }
+
+    @Benchmark
+    public PageRequest<Person> threeSortsAfterKeyset() {
+        return PageRequest.of(Person.class)
+                .size(size)
+                .asc("lastName")
+                .ascIgnoreCase("firstName")
+                .desc("id")
+                .withoutTotal()
+                .afterKeyset(lastName, "John", id);
+    }
+
+    @Benchmark
+    public PageRequest<Person> builderFiveSorts() {
+        return builder.reset()
+                .page(page)
+                .size(size)
+                .asc("lastName")
+                .ascIgnoreCase("firstName")
+                .desc("birthYear")
+                .descIgnoreCase("city")
+                .asc("id")
+                .build();
+    }
+
+    @Benchmark
+    public PageRequest<Person> builderThreeSortsAfterKeyset() {
+        return builder.reset()
+                .size(size)
+                .asc("lastName")
+                .ascIgnoreCase("firstName")
+                .desc("id")
+                .withoutTotal()
+                .afterKeyset(lastName, "John", id)
+                .build();
+    }
+
+    @Benchmark
+    public PageRequest<Person> nextChain() {
+        PageRequest<Person> current = request;
+        for (int i = 0; i < CHAIN_LENGTH; i++) {
+            current = current.next();
+        }
+        return current;
+    }
+
+    @Benchmark
+    public PageRequest<Person> previousChain() {
+        PageRequest<Person> current = request.page(CHAIN_LENGTH + 1);
+        for (int i = 0; i < CHAIN_LENGTH; i++) {
+            current = current.previous();
+        }
+        return current;
+    }
+
+    @Benchmark
+    public boolean equalsSameContent() {
+        return request.equals(equalRequest);
+    }
+
+    @Benchmark
+    public int hashCodeOffset() {
+        return request.hashCode();
+    }
+
+    @Benchmark
+    public int hashCodeKeyset() {
+        return keysetRequest.hashCode();
+    }
+
+    @Benchmark
+    public void toStringOffsetAndKeyset(Blackhole blackhole) {
+        blackhole.consume(request.toString());
+        blackhole.consume(keysetRequest.toString());
+    }
+
+    /**
+     * Looks up a prepared statement for a keyset page request by its shape,
+     * as a provider does on every page fetch.
+     */
+    @Benchmark
+    public String statementByShape() {
+        return statements.get(keysetRequest.page(page + 1).shape());
+    }
+
+    /**
+     * Entity type used only to parameterize the page requests.
+     */
+    public static class Person {
+    }
+}
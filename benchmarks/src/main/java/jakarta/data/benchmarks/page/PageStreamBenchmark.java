@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.benchmarks.page;
+
+import jakarta.data.page.Page;
+import jakarta.data.page.PageRequest;
+import jakarta.data.page.impl.PageRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Compares streaming a 10,000-element page through the sized spliterator
+ * of {@link PageRecord} with the unsized spliterator that
+ * {@link Iterable#spliterator()} provides by default.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PageStreamBenchmark {
+
+    static final int PAGE_SIZE = 10_000;
+
+    private Page<Integer> page;
+
+    @Setup
+    public void setup() {
+        List<Integer> content = IntStream.range(0, PAGE_SIZE).boxed().collect(Collectors.toList());
+        page = new PageRecord<>(PageRequest.of(Integer.class).size(PAGE_SIZE), content, PAGE_SIZE);
+    }
+
+    private Stream<Integer> unsized(boolean parallel) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(page.iterator(), 0), parallel);
+    }
+
+    @Benchmark
+    public List<Integer> collectToListUnsized() {
+        return unsized(false).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> collectToListSized() {
+        return page.stream().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Object[] toArrayUnsized() {
+        return unsized(false).toArray();
+    }
+
+    @Benchmark
+    public Object[] toArraySized() {
+        return page.stream().toArray();
+    }
+
+    @Benchmark
+    public long parallelMapUnsized() {
+        return unsized(true).mapToLong(PageStreamBenchmark::work).sum();
+    }
+
+    @Benchmark
+    public long parallelMapSized() {
+        return page.parallelStream().mapToLong(PageStreamBenchmark::work).sum();
+    }
+
+    /**
+     * A small amount of per-element work, as a mapping step would do.
+     */
+    private static long work(Integer i) {
+        long x = i;
+        for (int j = 0; j < 50; j++) {
+            x = x * 6364136223846793005L + 1442695040888963407L;
+        }
+        return x >>> 60;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.processor;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Renders the source of a static metamodel class.
+ */
+final class MetamodelSource {
+
+    /**
+     * The kind of metamodel attribute that represents an entity attribute.
+     */
+    enum Kind {
+        BASIC("Attribute", "AttributeRecord"),
+        SORTABLE("SortableAttribute", "PrecomputedSortableAttribute"),
+        TEXT("TextAttribute", "PrecomputedTextAttribute");
+
+        private final String type;
+        private final String implementation;
+
+        Kind(String type, String implementation) {
+            this.type = type;
+            this.implementation = implementation;
+        }
+
+        String type() {
+            return type;
+        }
+
+        /**
+         * The class from {@code jakarta.data.metamodel.impl} that implements the attribute.
+         * Sortable attributes use an implementation that creates its {@code Sort} instances once.
+         */
+        String implementation() {
+            return implementation;
+        }
+    }
+
+    /**
+     * An entity attribute, where embedded attribute names are delimited by {@code .}.
+     */
+    record Attr(String name, Kind kind) {
+        String fieldName() {
+            return name.replace('.', '_');
+        }
+
+        String constantName() {
+            return fieldName().toUpperCase(Locale.ROOT);
+        }
+    }
+
+    private final String packageName;
+    private final String className;
+    private final String entityName;
+    private final boolean annotateGenerated;
+    private final String generator;
+    private final List<Attr> attributes;
+
+    MetamodelSource(String packageName, String className, String entityName,
+                    boolean annotateGenerated, String generator, List<Attr> attributes) {
+        this.packageName = packageName;
+        this.className = className;
+        this.entityName = entityName;
+        this.annotateGenerated = annotateGenerated;
+        this.generator = generator;
+        this.attributes = attributes;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder(512 + attributes.size() * 160);
+        if (!packageName.isEmpty()) {
+            s.append("package ").append(packageName).append(";\n\n");
+        }
+
+        if (annotateGenerated) {
+            s.append("import jakarta.annotation.Generated;\n");
+        }
+        for (Kind kind : Kind.values()) {
+            if (attributes.stream().anyMatch(a -> a.kind() == kind)) {
+                s.append("import jakarta.data.metamodel.").append(kind.type()).append(";\n");
+            }
+        }
+        s.append("import jakarta.data.metamodel.StaticMetamodel;\n");
+        for (Kind kind : Kind.values()) {
+            if (attributes.stream().anyMatch(a -> a.kind() == kind)) {
+                s.append("import jakarta.data.metamodel.impl.").append(kind.implementation()).append(";\n");
+            }
+        }
+        s.append('\n');
+
+        if (annotateGenerated) {
+            s.append("@Generated(\"").append(generator).append("\")\n");
+        }
+        s.append("@StaticMetamodel(").append(entityName).append(".class)\n");
+        s.append("public final class ").append(className).append(" {\n");
+
+        for (Attr attr : attributes) {
+            s.append("    public static final String ").append(attr.constantName())
+                    .append(" = \"").append(attr.name()).append("\";\n");
+        }
+        if (!attributes.isEmpty()) {
+            s.append('\n');
+        }
+        for (Attr attr : attributes) {
+            s.append("    public static final ").append(attr.kind().type()).append('<').append(entityName).append("> ")
+                    .append(attr.fieldName()).append(" = new ").append(attr.kind().implementation()).append("<>(")
+                    .append(attr.constantName()).append(");\n");
+        }
+        if (!attributes.isEmpty()) {
+            s.append('\n');
+        }
+
+        s.append("    private ").append(className).append("() {\n");
+        s.append("    }\n");
+        s.append("}\n");
+        return s.toString();
+    }
+}
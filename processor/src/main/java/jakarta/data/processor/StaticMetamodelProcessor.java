@@ -0,0 +1,362 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * <p>Annotation processor that generates a {@code jakarta.data.metamodel.StaticMetamodel}
+ * class for each entity class that is compiled alongside it.</p>
+ *
+ * <p>An entity class {@code Person} in package {@code example} results in a generated
+ * class {@code example._Person} with,</p>
+ * <ul>
+ * <li>a {@code String} constant per entity attribute, such as {@code NAME_FIRST = "name.first"},
+ *     and</li>
+ * <li>a {@code static final} attribute per entity attribute, initialized to an
+ *     {@code AttributeRecord}, {@code PrecomputedSortableAttribute}, or
+ *     {@code PrecomputedTextAttribute}, such as {@code name_first}. Sortable attributes
+ *     create their {@code Sort} instances once, so that requesting sort criteria from the
+ *     metamodel does not allocate.</li>
+ * </ul>
+ *
+ * <p>Because every field of the generated class is {@code final} and is annotated
+ * {@code jakarta.annotation.Generated} (when that annotation is available to the compilation),
+ * Jakarta Data providers do not need to assign the fields at run time.</p>
+ *
+ * <p>Entity classes are recognized by the {@code jakarta.persistence.Entity} and
+ * {@code jakarta.nosql.Entity} annotations, which are matched by name so that neither API
+ * is required by the processor itself. Attributes are determined as follows:</p>
+ * <ul>
+ * <li>For a Java record, attributes are determined from the record components rather than the fields.</li>
+ * <li>For a Jakarta Persistence entity, attributes are determined by the access type, including
+ *     attributes that are inherited from a {@code MappedSuperclass} or entity superclass.
+ *     Property access applies to a class that is annotated {@code Access(PROPERTY)}, or by
+ *     default when {@code Id} or {@code EmbeddedId} annotates a getter. An embeddable uses the
+ *     access type of the attribute that embeds it unless it is annotated {@code Access}.
+ *     With field access, each field that is neither {@code static}, {@code transient}, nor
+ *     annotated {@code Transient} is an attribute. With property access, each getter
+ *     ({@code getX()}, or {@code isX()} returning {@code boolean}) that is neither
+ *     {@code static} nor annotated {@code Transient} is an attribute, named after its
+ *     JavaBeans property. A field or getter that is annotated with the other access type
+ *     is also an attribute.</li>
+ * <li>For a Jakarta NoSQL entity, each field or record component that is annotated
+ *     {@code Id} or {@code Column} is an attribute.</li>
+ * <li>The attributes of an embeddable attribute are also included, with a name that is
+ *     delimited by {@code .} from the name of the embeddable attribute.</li>
+ * </ul>
+ *
+ * <p>Attributes of type {@code String} are represented by a {@code TextAttribute}.
+ * Attributes of a primitive type or a type that implements {@link Comparable} are represented
+ * by a {@code SortableAttribute}. All other attributes are represented by an
+ * {@code Attribute}.</p>
+ *
+ * <p>A static metamodel class is not generated if the source of a class with the same name is
+ * part of the compilation. A class with the same name that is only on the class path, such as
+ * one that was generated by a previous build, is replaced.</p>
+ */
+@SupportedAnnotationTypes({
+        StaticMetamodelProcessor.PERSISTENCE + "Entity",
+        StaticMetamodelProcessor.NOSQL + "Entity"
+})
+public class StaticMetamodelProcessor extends AbstractProcessor {
+
+    static final String PERSISTENCE = "jakarta.persistence.";
+
+    static final String NOSQL = "jakarta.nosql.";
+
+    private static final String GENERATED = "jakarta.annotation.Generated";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<String> sourceTypes = new HashSet<>();
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            sourceTypes.add(type.getQualifiedName().toString());
+        }
+
+        for (TypeElement annotation : annotations) {
+            for (TypeElement entity : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                generate(entity, annotation.getQualifiedName().toString().startsWith(NOSQL), sourceTypes);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Generates the static metamodel class for the entity, unless a class of the same name
+     * is among the source types being compiled. A class of that name that is only on the
+     * class path, such as one generated by a previous build, is regenerated so that it
+     * reflects the current attributes of the entity.
+     */
+    private void generate(TypeElement entity, boolean nosql, Set<String> sourceTypes) {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(entity);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String className = "_" + entity.getSimpleName();
+        String qualifiedName = packageName.isEmpty() ? className : packageName + '.' + className;
+
+        if (sourceTypes.contains(qualifiedName)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    qualifiedName + " is part of the compilation and is not generated.", entity);
+            return;
+        }
+
+        String entityName = entity.getQualifiedName().toString();
+        if (!packageName.isEmpty()) {
+            entityName = entityName.substring(packageName.length() + 1);
+        }
+
+        List<MetamodelSource.Attr> attributes = new ArrayList<>();
+        collect(entity, nosql, false, "", attributes, new HashSet<>());
+
+        boolean generatedAvailable = processingEnv.getElementUtils().getTypeElement(GENERATED) != null;
+        MetamodelSource source = new MetamodelSource(packageName, className, entityName,
+                generatedAvailable, getClass().getName(), attributes);
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, entity).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException x) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to generate " + qualifiedName + ": " + x.getMessage(), entity);
+        }
+    }
+
+    /**
+     * Adds the attributes of the type, and of any embeddable attributes within it,
+     * to the list. The propertyAccess flag is the access type that an embeddable
+     * inherits from the class in which it is embedded. The visited set guards
+     * against embeddables that refer to themselves.
+     */
+    private void collect(TypeElement type, boolean nosql, boolean propertyAccess, String prefix,
+                         List<MetamodelSource.Attr> attributes, Set<String> visited) {
+        if (!visited.add(type.getQualifiedName().toString())) {
+            return;
+        }
+
+        List<Element> members = new ArrayList<>();
+        if (type.getKind() == ElementKind.RECORD) {
+            members.addAll(type.getRecordComponents());
+        } else {
+            List<TypeElement> hierarchy = new ArrayList<>();
+            for (TypeElement t = type; t != null; t = superclassOf(t)) {
+                if (t != type && !isAnnotated(t, "MappedSuperclass") && !isAnnotated(t, "Entity")) {
+                    break;
+                }
+                hierarchy.add(0, t);
+            }
+            boolean defaultPropertyAccess = !nosql && (hasId(hierarchy, ElementKind.METHOD)
+                    || propertyAccess && !hasId(hierarchy, ElementKind.FIELD));
+            for (TypeElement t : hierarchy) {
+                String access = accessOf(t);
+                boolean classPropertyAccess = access == null ? defaultPropertyAccess : access.equals("PROPERTY");
+                for (Element field : ElementFilter.fieldsIn(t.getEnclosedElements())) {
+                    if (!classPropertyAccess || "FIELD".equals(accessOf(field))) {
+                        members.add(field);
+                    }
+                }
+                for (ExecutableElement method : ElementFilter.methodsIn(t.getEnclosedElements())) {
+                    if (!nosql && isGetter(method) && (classPropertyAccess || "PROPERTY".equals(accessOf(method)))) {
+                        members.add(method);
+                    }
+                }
+            }
+        }
+
+        Set<String> names = new HashSet<>();
+        for (Element member : members) {
+            if (!isPersistent(member, nosql)) {
+                continue;
+            }
+
+            String name = prefix + attributeNameOf(member);
+            if (!names.add(name)) {
+                continue;
+            }
+
+            TypeMirror attributeType;
+            if (member instanceof RecordComponentElement) {
+                attributeType = ((RecordComponentElement) member).getAccessor().getReturnType();
+            } else if (member instanceof ExecutableElement) {
+                attributeType = ((ExecutableElement) member).getReturnType();
+            } else {
+                attributeType = member.asType();
+            }
+
+            attributes.add(new MetamodelSource.Attr(name, kindOf(attributeType)));
+
+            TypeElement embeddable = embeddableOf(member, attributeType);
+            if (embeddable != null) {
+                collect(embeddable, nosql, member.getKind() == ElementKind.METHOD, name + '.', attributes, visited);
+            }
+        }
+
+        visited.remove(type.getQualifiedName().toString());
+    }
+
+    private boolean isPersistent(Element member, boolean nosql) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+            return false;
+        } else if (nosql) {
+            return isAnnotated(member, "Id") || isAnnotated(member, "Column");
+        } else {
+            return !isAnnotated(member, "Transient");
+        }
+    }
+
+    /**
+     * Determines whether an identifier attribute is declared by a member of the given kind
+     * within the hierarchy, which is how Jakarta Persistence determines the default access type.
+     */
+    private static boolean hasId(List<TypeElement> hierarchy, ElementKind kind) {
+        for (TypeElement t : hierarchy) {
+            for (Element member : t.getEnclosedElements()) {
+                if (member.getKind() == kind && (isAnnotated(member, "Id") || isAnnotated(member, "EmbeddedId"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Obtains the name of the access type, {@code FIELD} or {@code PROPERTY}, from
+     * the {@code jakarta.persistence.Access} annotation, or {@code null} if not annotated.
+     */
+    private static String accessOf(Element element) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName()
+                    .contentEquals(PERSISTENCE + "Access")) {
+                for (AnnotationValue value : annotation.getElementValues().values()) {
+                    if (value.getValue() instanceof VariableElement) {
+                        return ((VariableElement) value.getValue()).getSimpleName().toString();
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isGetter(ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        if (method.getModifiers().contains(Modifier.STATIC) || !method.getParameters().isEmpty()) {
+            return false;
+        } else if (name.length() > 3 && name.startsWith("get")) {
+            return method.getReturnType().getKind() != TypeKind.VOID;
+        } else {
+            return name.length() > 2 && name.startsWith("is") && method.getReturnType().getKind() == TypeKind.BOOLEAN;
+        }
+    }
+
+    /**
+     * Determines the attribute name of a field or record component, or the
+     * JavaBeans property name of a getter.
+     */
+    private static String attributeNameOf(Element member) {
+        String name = member.getSimpleName().toString();
+        if (member.getKind() != ElementKind.METHOD) {
+            return name;
+        }
+        String property = name.substring(name.startsWith("is") ? 2 : 3);
+        if (property.length() > 1 && Character.isUpperCase(property.charAt(1))) {
+            return property; // such as getURL, which is the property URL
+        }
+        return Character.toLowerCase(property.charAt(0)) + property.substring(1);
+    }
+
+    private TypeElement embeddableOf(Element member, TypeMirror attributeType) {
+        if (attributeType.getKind() == TypeKind.DECLARED) {
+            TypeElement typeElement = (TypeElement) ((DeclaredType) attributeType).asElement();
+            if (isAnnotated(typeElement, "Embeddable")
+                    || isAnnotated(member, "Embedded")
+                    || isAnnotated(member, "EmbeddedId")) {
+                return typeElement;
+            }
+        }
+        return null;
+    }
+
+    private MetamodelSource.Kind kindOf(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return MetamodelSource.Kind.SORTABLE;
+        } else if (type.getKind() != TypeKind.DECLARED) {
+            return MetamodelSource.Kind.BASIC;
+        }
+
+        TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+        if (typeElement.getQualifiedName().contentEquals(String.class.getName())) {
+            return MetamodelSource.Kind.TEXT;
+        }
+
+        TypeMirror comparable = processingEnv.getTypeUtils().erasure(
+                processingEnv.getElementUtils().getTypeElement(Comparable.class.getName()).asType());
+        return processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(type), comparable)
+                ? MetamodelSource.Kind.SORTABLE
+                : MetamodelSource.Kind.BASIC;
+    }
+
+    private static TypeElement superclassOf(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED
+                ? (TypeElement) ((DeclaredType) superclass).asElement()
+                : null;
+    }
+
+    /**
+     * Determines whether the element is annotated with the Jakarta Persistence or
+     * Jakarta NoSQL annotation of the given simple name.
+     */
+    private static boolean isAnnotated(Element element, String simpleName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            String name = ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (name.equals(PERSISTENCE + simpleName) || name.equals(NOSQL + simpleName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
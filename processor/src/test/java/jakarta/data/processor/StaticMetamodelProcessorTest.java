@@ -0,0 +1,382 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.processor;
+
+import jakarta.data.Sort;
+import jakarta.data.metamodel.Attribute;
+import jakarta.data.metamodel.SortableAttribute;
+import jakarta.data.metamodel.StaticMetamodel;
+import jakarta.data.metamodel.TextAttribute;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class StaticMetamodelProcessorTest {
+
+    private static final List<JavaFileObject> SOURCES = List.of(
+            source("jakarta.persistence.Entity",
+                    "package jakarta.persistence; public @interface Entity {}"),
+            source("jakarta.persistence.Embeddable",
+                    "package jakarta.persistence; public @interface Embeddable {}"),
+            source("jakarta.persistence.MappedSuperclass",
+                    "package jakarta.persistence; public @interface MappedSuperclass {}"),
+            source("jakarta.persistence.Transient",
+                    "package jakarta.persistence; public @interface Transient {}"),
+            source("jakarta.persistence.Id",
+                    "package jakarta.persistence; public @interface Id {}"),
+            source("jakarta.persistence.AccessType",
+                    "package jakarta.persistence; public enum AccessType { FIELD, PROPERTY }"),
+            source("jakarta.persistence.Access",
+                    "package jakarta.persistence; public @interface Access { AccessType value(); }"),
+            source("jakarta.nosql.Entity",
+                    "package jakarta.nosql; public @interface Entity {}"),
+            source("jakarta.nosql.Id",
+                    "package jakarta.nosql; public @interface Id {}"),
+            source("jakarta.nosql.Column",
+                    "package jakarta.nosql; public @interface Column {}"),
+            source("example.Versioned", """
+                    package example;
+                    @jakarta.persistence.MappedSuperclass
+                    public class Versioned {
+                        long version;
+                    }
+                    """),
+            source("example.Name", """
+                    package example;
+                    @jakarta.persistence.Embeddable
+                    public class Name {
+                        String first;
+                        String last;
+                    }
+                    """),
+            source("example.Person", """
+                    package example;
+                    @jakarta.persistence.Entity
+                    public class Person extends Versioned {
+                        public static final int MAX_AGE = 150;
+                        Long id;
+                        Name name;
+                        int age;
+                        java.time.LocalDate birthday;
+                        java.util.List<String> nicknames;
+                        transient Object cached;
+                        @jakarta.persistence.Transient
+                        String displayName;
+                    }
+                    """),
+            source("example.Account", """
+                    package example;
+                    @jakarta.persistence.Entity
+                    public class Account {
+                        private long key;
+                        private String passwordHash;
+                        @jakarta.persistence.Id
+                        public long getId() { return key; }
+                        public String getOwner() { return null; }
+                        public boolean isActive() { return true; }
+                        public java.time.Instant getCreatedAt() { return null; }
+                        @jakarta.persistence.Transient
+                        public String getDisplayName() { return null; }
+                        public static int getMaxAccounts() { return 10; }
+                        public String getNote(int index) { return null; }
+                    }
+                    """),
+            source("example.Invoice", """
+                    package example;
+                    @jakarta.persistence.Entity
+                    @jakarta.persistence.Access(jakarta.persistence.AccessType.PROPERTY)
+                    public class Invoice {
+                        @jakarta.persistence.Id
+                        long number;
+                        String secret;
+                        @jakarta.persistence.Access(jakarta.persistence.AccessType.FIELD)
+                        String currency;
+                        public long getNumber() { return number; }
+                        public java.math.BigDecimal getTotal() { return null; }
+                    }
+                    """),
+            source("example.Product", """
+                    package example;
+                    @jakarta.nosql.Entity
+                    public record Product(@jakarta.nosql.Id String sku,
+                                          @jakarta.nosql.Column java.math.BigDecimal price,
+                                          @jakarta.nosql.Column byte[] image,
+                                          String notPersistent) {
+                    }
+                    """),
+            source("example.Document", """
+                    package example;
+                    @jakarta.nosql.Entity
+                    public class Document {
+                        @jakarta.nosql.Id
+                        java.util.UUID id;
+                        @jakarta.nosql.Column
+                        String title;
+                        String notPersistent;
+                    }
+                    """));
+
+    @TempDir
+    Path output;
+
+    @Test
+    @DisplayName("should generate static metamodel classes with final attributes for a Jakarta Persistence entity")
+    void shouldGeneratePersistenceMetamodel() throws Exception {
+        try (URLClassLoader loader = compile()) {
+            Class<?> metamodel = loader.loadClass("example._Person");
+
+            assertSoftly(softly -> {
+                softly.assertThat(metamodel.getAnnotation(StaticMetamodel.class).value().getName())
+                        .isEqualTo("example.Person");
+                softly.assertThat(generatedSource("example/_Person.java"))
+                        .contains("@Generated(\"" + StaticMetamodelProcessor.class.getName() + "\")");
+                softly.assertThat(Modifier.isFinal(metamodel.getModifiers())).isTrue();
+                softly.assertThat(metamodel.getConstructors()).isEmpty();
+
+                for (Field field : metamodel.getDeclaredFields()) {
+                    softly.assertThat(field.getModifiers())
+                            .as(field.getName())
+                            .isEqualTo(Modifier.PUBLIC | Modifier.STATIC | Modifier.FINAL);
+                }
+            });
+
+            assertSoftly(softly -> {
+                softly.assertThat(constant(metamodel, "VERSION")).isEqualTo("version");
+                softly.assertThat(constant(metamodel, "ID")).isEqualTo("id");
+                softly.assertThat(constant(metamodel, "NAME")).isEqualTo("name");
+                softly.assertThat(constant(metamodel, "NAME_FIRST")).isEqualTo("name.first");
+                softly.assertThat(constant(metamodel, "NAME_LAST")).isEqualTo("name.last");
+                softly.assertThat(constant(metamodel, "AGE")).isEqualTo("age");
+                softly.assertThat(constant(metamodel, "BIRTHDAY")).isEqualTo("birthday");
+                softly.assertThat(constant(metamodel, "NICKNAMES")).isEqualTo("nicknames");
+
+                softly.assertThat(attribute(metamodel, "version")).isInstanceOf(SortableAttribute.class);
+                softly.assertThat(attribute(metamodel, "id")).isInstanceOf(SortableAttribute.class);
+                softly.assertThat(attribute(metamodel, "name")).isNotInstanceOf(SortableAttribute.class);
+                softly.assertThat(attribute(metamodel, "name_first")).isInstanceOf(TextAttribute.class);
+                softly.assertThat(attribute(metamodel, "name_last").name()).isEqualTo("name.last");
+                softly.assertThat(attribute(metamodel, "age")).isInstanceOf(SortableAttribute.class);
+                softly.assertThat(attribute(metamodel, "birthday")).isInstanceOf(SortableAttribute.class);
+                softly.assertThat(attribute(metamodel, "nicknames")).isNotInstanceOf(SortableAttribute.class);
+                softly.assertThat(((SortableAttribute<?>) attribute(metamodel, "age")).desc())
+                        .isEqualTo(Sort.desc("age"));
+                softly.assertThat(((SortableAttribute<?>) attribute(metamodel, "age")).desc())
+                        .isSameAs(((SortableAttribute<?>) attribute(metamodel, "age")).desc());
+                softly.assertThat(((TextAttribute<?>) attribute(metamodel, "name_first")).ascIgnoreCase())
+                        .isSameAs(((TextAttribute<?>) attribute(metamodel, "name_first")).ascIgnoreCase());
+
+                softly.assertThat(metamodel.getDeclaredFields())
+                        .extracting(Field::getName)
+                        .doesNotContain("MAX_AGE", "max_age", "cached", "displayName");
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("should generate static metamodel attributes from getters for Jakarta Persistence property access")
+    void shouldGeneratePropertyAccessMetamodel() throws Exception {
+        try (URLClassLoader loader = compile()) {
+            Class<?> account = loader.loadClass("example._Account");
+            Class<?> invoice = loader.loadClass("example._Invoice");
+
+            assertSoftly(softly -> {
+                softly.assertThat(attribute(account, "id")).isInstanceOf(SortableAttribute.class);
+                softly.assertThat(attribute(account, "owner")).isInstanceOf(TextAttribute.class);
+                softly.assertThat(attribute(account, "active")).isInstanceOf(SortableAttribute.class);
+                softly.assertThat(attribute(account, "createdAt").name()).isEqualTo("createdAt");
+                softly.assertThat(constant(account, "OWNER")).isEqualTo("owner");
+                softly.assertThat(account.getDeclaredFields())
+                        .extracting(Field::getName)
+                        .doesNotContain("key", "passwordHash", "displayName", "maxAccounts", "note");
+
+                softly.assertThat(attribute(invoice, "number")).isInstanceOf(SortableAttribute.class);
+                softly.assertThat(attribute(invoice, "total")).isInstanceOf(SortableAttribute.class);
+                softly.assertThat(attribute(invoice, "currency")).isInstanceOf(TextAttribute.class);
+                softly.assertThat(invoice.getDeclaredFields())
+                        .extracting(Field::getName)
+                        .doesNotContain("secret", "SECRET");
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("should generate static metamodel classes for Jakarta NoSQL entities and records")
+    void shouldGenerateNoSQLMetamodel() throws Exception {
+        try (URLClassLoader loader = compile()) {
+            Class<?> product = loader.loadClass("example._Product");
+            Class<?> document = loader.loadClass("example._Document");
+
+            assertSoftly(softly -> {
+                softly.assertThat(attribute(product, "sku")).isInstanceOf(TextAttribute.class);
+                softly.assertThat(attribute(product, "price")).isInstanceOf(SortableAttribute.class);
+                softly.assertThat(attribute(product, "image")).isNotInstanceOf(SortableAttribute.class);
+                softly.assertThat(constant(product, "PRICE")).isEqualTo("price");
+                softly.assertThat(product.getDeclaredFields())
+                        .extracting(Field::getName)
+                        .doesNotContain("notPersistent", "NOTPERSISTENT");
+
+                softly.assertThat(attribute(document, "id")).isInstanceOf(SortableAttribute.class);
+                softly.assertThat(attribute(document, "title")).isInstanceOf(TextAttribute.class);
+                softly.assertThat(document.getDeclaredFields())
+                        .extracting(Field::getName)
+                        .doesNotContain("notPersistent", "NOTPERSISTENT");
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("should not generate a static metamodel class that already exists")
+    void shouldNotReplaceExistingMetamodel() throws Exception {
+        JavaFileObject existing = source("example._Document", """
+                package example;
+                @jakarta.data.metamodel.StaticMetamodel(Document.class)
+                public class _Document {
+                    public static final String HANDWRITTEN = "title";
+                }
+                """);
+
+        try (URLClassLoader loader = compile(existing)) {
+            Class<?> document = loader.loadClass("example._Document");
+
+            assertThat(document.getDeclaredFields())
+                    .extracting(Field::getName)
+                    .containsExactly("HANDWRITTEN");
+        }
+    }
+
+    @Test
+    @DisplayName("should regenerate a static metamodel class that a previous build left on the class path")
+    void shouldRegenerateStaleMetamodel() throws Exception {
+        try (URLClassLoader loader = compile(source("example.Gadget", """
+                package example;
+                @jakarta.persistence.Entity
+                public class Gadget {
+                    long id;
+                    String name;
+                }
+                """))) {
+            assertThat(loader.loadClass("example._Gadget").getDeclaredFields())
+                    .extracting(Field::getName)
+                    .doesNotContain("age");
+        }
+
+        try (URLClassLoader loader = compileOnly(List.of(source("example.Gadget", """
+                package example;
+                @jakarta.persistence.Entity
+                public class Gadget {
+                    long id;
+                    String name;
+                    int age;
+                }
+                """)))) {
+            Class<?> gadget = loader.loadClass("example._Gadget");
+
+            assertSoftly(softly -> {
+                softly.assertThat(attribute(gadget, "id")).isInstanceOf(SortableAttribute.class);
+                softly.assertThat(attribute(gadget, "name")).isInstanceOf(TextAttribute.class);
+                softly.assertThat(attribute(gadget, "age")).isInstanceOf(SortableAttribute.class);
+                softly.assertThat(constant(gadget, "AGE")).isEqualTo("age");
+            });
+        }
+    }
+
+    private URLClassLoader compile(JavaFileObject... additionalSources) throws Exception {
+        List<JavaFileObject> sources = new ArrayList<>(SOURCES);
+        sources.addAll(List.of(additionalSources));
+        return compileOnly(sources);
+    }
+
+    /**
+     * Compiles only the given sources, with the output of previous compilations on the
+     * class path, as an incremental build does.
+     */
+    private URLClassLoader compileOnly(List<JavaFileObject> sources) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, null)) {
+            files.setLocation(StandardLocation.CLASS_OUTPUT, List.of(output.toFile()));
+            files.setLocation(StandardLocation.SOURCE_OUTPUT, List.of(Files.createDirectories(output.resolve("src")).toFile()));
+
+            String classpath = output + File.pathSeparator + System.getProperty("java.class.path");
+            JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics,
+                    List.of("-classpath", classpath, "-Xlint:none"),
+                    null, sources);
+            task.setProcessors(List.of(new StaticMetamodelProcessor()));
+
+            assertThat(task.call()).as(diagnostics.getDiagnostics().toString()).isTrue();
+        }
+        return new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    private String generatedSource(String path) {
+        try {
+            return Files.readString(output.resolve("src").resolve(path));
+        } catch (IOException x) {
+            throw new UncheckedIOException(x);
+        }
+    }
+
+    private static String constant(Class<?> metamodel, String name) {
+        return (String) valueOf(metamodel, name);
+    }
+
+    private static Attribute<?> attribute(Class<?> metamodel, String name) {
+        return (Attribute<?>) valueOf(metamodel, name);
+    }
+
+    private static Object valueOf(Class<?> metamodel, String name) {
+        try {
+            return metamodel.getField(name).get(null);
+        } catch (ReflectiveOperationException x) {
+            throw new AssertionError(metamodel.getName() + " has no field " + name, x);
+        }
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
@@ -18,8 +18,10 @@ package ee.jakarta.tck.data.framework.read.only;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import jakarta.data.Limit;
 import jakarta.data.Order;
 import jakarta.data.Sort;
 import jakarta.data.page.Page;
@@ -27,8 +29,10 @@ import jakarta.data.page.PageRequest;
 import jakarta.data.repository.By;
 import jakarta.data.repository.DataRepository;
 import jakarta.data.repository.Find;
+import jakarta.data.repository.OrderBy;
 import jakarta.data.repository.Repository;
 import jakarta.data.repository.Save;
+import jakarta.data.repository.Select;
 
 /**
  * This is a read only repository that represents the set of AsciiCharacters from 0-256.
@@ -37,6 +41,13 @@ import jakarta.data.repository.Save;
  */
 @Repository
 public interface AsciiCharacters extends DataRepository<AsciiCharacter, Long>, IdOperations<AsciiCharacter> {
+    /**
+     * Projection of the AsciiCharacter entity to a subset of its attributes,
+     * one of which is named differently than the entity attribute.
+     */
+    record HexCode(@Select("thisCharacter") char ch, String hexadecimal) {
+    }
+
 
     int countByHexadecimalNotNull();
 
@@ -64,6 +75,8 @@ public interface AsciiCharacters extends DataRepository<AsciiCharacter, Long>, I
 
     Page<AsciiCharacter> findByNumericValueBetween(int min, int max, PageRequest<AsciiCharacter> pagination);
 
+    List<HexCode> findByNumericValueBetweenOrderByNumericValueAsc(int min, int max);
+
     List<AsciiCharacter> findByNumericValueLessThanEqualAndNumericValueGreaterThanEqual(int max, int min);
 
     AsciiCharacter[] findFirst3ByNumericValueGreaterThanEqualAndHexadecimalEndsWith(long minValue, String lastHexDigit, Sort<AsciiCharacter> sort);
@@ -75,6 +88,16 @@ public interface AsciiCharacters extends DataRepository<AsciiCharacter, Long>, I
                         .filter(c -> Character.isLetterOrDigit(c.getThisCharacter()));
     }
 
+    @Find
+    @OrderBy("numericValue")
+    @Select("numericValue")
+    IntStream numericValues(@By("isControl") boolean isControl);
+
+    @Find
+    @OrderBy(value = "numericValue", descending = true)
+    @Select("numericValue")
+    int[] numericValues(@By("isControl") boolean isControl, Limit limit);
+
     @Save
     Iterable<AsciiCharacter> saveAll(Iterable<AsciiCharacter> characters);
 }
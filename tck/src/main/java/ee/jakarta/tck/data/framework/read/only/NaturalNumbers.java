@@ -15,6 +15,7 @@
  */
 package ee.jakarta.tck.data.framework.read.only;
 
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import jakarta.data.Limit;
@@ -23,7 +24,11 @@ import jakarta.data.page.CursoredPage;
 import jakarta.data.page.Page;
 import jakarta.data.page.PageRequest;
 import jakarta.data.repository.BasicRepository;
+import jakarta.data.repository.By;
+import jakarta.data.repository.Find;
+import jakarta.data.repository.OrderBy;
 import jakarta.data.repository.Repository;
+import jakarta.data.repository.Select;
 
 import ee.jakarta.tck.data.framework.read.only.NaturalNumber.NumberType;
 
@@ -58,4 +63,13 @@ public interface NaturalNumbers extends BasicRepository<NaturalNumber, Long>, Id
                                                                        long maxSqrtFloor,
                                                                        PageRequest<NaturalNumber> pagination);
 
+    @Find
+    @OrderBy("id")
+    @Select("id")
+    LongStream ids(@By("numType") NumberType type);
+
+    @Find
+    @OrderBy(value = "id", descending = true)
+    @Select("id")
+    long[] ids(@By("numType") NumberType type, Limit limit);
 }
@@ -28,6 +28,7 @@ import jakarta.data.page.Page;
 import jakarta.data.page.PageRequest;
 import jakarta.data.repository.Find;
 import jakarta.data.repository.BasicRepository;
+import jakarta.data.repository.OrderBy;
 import jakarta.data.repository.Repository;
 
 /**
@@ -37,6 +38,12 @@ import jakarta.data.repository.Repository;
  */
 @Repository
 public interface PositiveIntegers extends BasicRepository<NaturalNumber, Long> {
+    /**
+     * Projection of the NaturalNumber entity to a subset of its attributes.
+     */
+    record NumberSummary(long id, NumberType numType) {
+    }
+
     long countByIdLessThan(long number);
 
     boolean existsByIdGreaterThan(Long number);
@@ -60,6 +67,10 @@ public interface PositiveIntegers extends BasicRepository<NaturalNumber, Long> {
     @Find
     Optional<NaturalNumber> findNumber(long id);
 
+    @Find
+    @OrderBy("id")
+    List<NumberSummary> summarize(boolean isOdd, long floorOfSquareRoot);
+
     @Find
     List<NaturalNumber> findOdd(boolean isOdd, NumberType numType, Limit limit, Order<NaturalNumber> sorts);
 }
\ No newline at end of file
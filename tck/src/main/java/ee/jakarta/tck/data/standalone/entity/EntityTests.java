@@ -21,6 +21,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -33,6 +34,8 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import jakarta.data.page.CursoredPage;
@@ -502,6 +505,44 @@ public class EntityTests {
         assertEquals(true, characters.existsByThisCharacter('D'));
     }
 
+    @Assertion(id = "133",
+               strategy = "Request the first two Pages of 4 results with keyset seek enabled, " +
+                          "then jump ahead to pages 9 and 11, where 43 results are available. " +
+                          "Verify that each page has the same content as the corresponding page " +
+                          "that is requested with plain offset pagination.")
+    public void testDeepPagesWithKeysetSeek() {
+        PageRequest<AsciiCharacter> plain = Order.by(_AsciiCharacter.numericValue.asc()).pageSize(4);
+        PageRequest<AsciiCharacter> seeking = plain.withKeysetSeek();
+
+        for (long pageNum : new long[] { 1L, 2L, 9L, 11L, 10L }) {
+            Page<AsciiCharacter> expected;
+            Page<AsciiCharacter> page;
+            try {
+                expected = characters.findByNumericValueBetween(48, 90, plain.page(pageNum));
+                page = characters.findByNumericValueBetween(48, 90, seeking.page(pageNum));
+            } catch (UnsupportedOperationException x) {
+                // Some NoSQL databases lack the ability to count the total results
+                // and therefore cannot support a return type of Page
+                return;
+            }
+
+            assertEquals(pageNum, page.pageRequest().page());
+            assertEquals(expected.stream().map(AsciiCharacter::getThisCharacter).collect(Collectors.toList()),
+                         page.stream().map(AsciiCharacter::getThisCharacter).collect(Collectors.toList()),
+                         "Page " + pageNum + " differs from offset pagination");
+            assertEquals(expected.totalElements(), page.totalElements());
+        }
+
+        Page<AsciiCharacter> page9 = characters.findByNumericValueBetween(48, 90, seeking.page(9));
+        assertEquals(List.of('P', 'Q', 'R', 'S'), // page 9 of '0' to 'Z' when 4 per page
+                     page9.stream().map(AsciiCharacter::getThisCharacter).collect(Collectors.toList()));
+
+        Page<AsciiCharacter> page11 = characters.findByNumericValueBetween(48, 90, page9.nextPageRequest().next());
+        assertEquals(List.of('X', 'Y', 'Z'),
+                     page11.stream().map(AsciiCharacter::getThisCharacter).collect(Collectors.toList()));
+        assertEquals(false, page11.hasNext());
+    }
+
     @Assertion(id = "133", strategy = "Use a default method from a repository interface where the default method invokes other repository methods.")
     public void testDefaultMethod() {
         assertEquals(List.of('W', 'X', 'Y', 'Z', 'a', 'b', 'c', 'd'),
@@ -622,6 +663,40 @@ public class EntityTests {
         assertEquals(false, it.hasNext());
     }
 
+    @Assertion(id = "133",
+               strategy = "Use the findAll method of a repository that inherits from BasicRepository " +
+                          "to request Pages of size 15 with keyset seek enabled, traversing all pages " +
+                          "with PageRequest.next. Verify that each page has the same content as the " +
+                          "corresponding page that is requested with plain offset pagination.")
+    public void testFindAllWithKeysetSeek() {
+        PageRequest<NaturalNumber> plain = PageRequest.of(NaturalNumber.class).size(15).asc("id");
+        PageRequest<NaturalNumber> seeking = plain.withKeysetSeek();
+        assertEquals(true, seeking.keysetSeek());
+
+        List<Long> all = new ArrayList<>();
+        Page<NaturalNumber> page = positives.findAll(seeking);
+        for (long pageNum = 1; ; pageNum++) {
+            assertEquals(pageNum, page.pageRequest().page());
+            assertEquals(true, page.pageRequest().keysetSeek());
+
+            List<Long> ids = page.stream().map(NaturalNumber::getId).collect(Collectors.toList());
+            assertEquals(positives.findAll(plain.page(pageNum)).stream()
+                                 .map(NaturalNumber::getId)
+                                 .collect(Collectors.toList()),
+                         ids,
+                         "Page " + pageNum + " differs from offset pagination");
+            all.addAll(ids);
+
+            if (!page.hasNext()) {
+                break;
+            }
+            page = positives.findAll(page.nextPageRequest());
+        }
+
+        assertEquals(100, all.size());
+        assertEquals(LongStream.rangeClosed(1, 100).boxed().collect(Collectors.toList()), all);
+    }
+
     @Assertion(id = "133",
                strategy = "Use the findAll method of a repository that inherits from BasicRepository " +
                           "to request a Page 2 of size 12, specifying a PageRequest that requires a mixture of " +
@@ -640,6 +715,42 @@ public class EntityTests {
                      page2.stream().map(n -> n.getId()).collect(Collectors.toList()));
     }
 
+    @Assertion(id = "133",
+               strategy = "Use the findAll method of a repository that inherits from BasicRepository " +
+                          "to request the first Page of size 15 with totals, then use Page.streamAll " +
+                          "to stream the results of all pages. Verify that all 100 entities are " +
+                          "streamed in order and that the latency of each subsequent page is reported.")
+    public void testFindAllStreamAllPages() {
+        PageRequest<NaturalNumber> page1request = PageRequest.of(NaturalNumber.class).size(15).asc("id");
+        Page<NaturalNumber> page1;
+        try {
+            page1 = positives.findAll(page1request);
+        } catch (UnsupportedOperationException x) {
+            // Some NoSQL databases lack the ability to count the total results
+            // and therefore cannot support a return type of Page
+            return;
+        }
+
+        assertEquals(7L, page1.totalPages());
+
+        // Pages are fetched on the calling thread so that the repository is
+        // always invoked in the same context as the test.
+        Set<Long> pagesFetched = new TreeSet<>();
+        List<Long> ids;
+        try (Stream<NaturalNumber> all = Page.streamAll(page1, positives::findAll, Runnable::run, 3,
+                (pageRequest, latency) -> pagesFetched.add(pageRequest.page()))) {
+            ids = all.map(NaturalNumber::getId).collect(Collectors.toList());
+        }
+
+        assertEquals(100, ids.size());
+        assertEquals(1L, ids.get(0));
+        assertEquals(100L, ids.get(99));
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1) < ids.get(i), "Results are not in order at position " + i + ": " + ids);
+        }
+        assertEquals(Set.of(2L, 3L, 4L, 5L, 6L, 7L), pagesFetched);
+    }
+
     @Assertion(id = "133",
                strategy = "Use a repository method with findFirstBy that returns the first entity value " +
                           "where multiple results would otherwise be found.")
@@ -753,6 +864,50 @@ public class EntityTests {
         assertEquals(false, page3.hasNext());
     }
 
+    @Assertion(id = "133",
+               strategy = "Request the first and final Pages of 5 results with a total that is retrieved " +
+                          "inline with the page content, where 22 results are available. Verify that both " +
+                          "pages have the same exact totalElements and totalPages as a separate count.")
+    public void testFirstAndFinalPagesOf5WithInlineTotal() {
+        PageRequest<NaturalNumber> first5 = PageRequest.of(NaturalNumber.class)
+                .size(5)
+                .sortBy(Sort.desc("id"))
+                .withInlineTotal();
+        Page<NaturalNumber> page;
+        try {
+            page = numbers.findByNumTypeAndFloorOfSquareRootLessThanEqual(NumberType.PRIME, 8L, first5);
+        } catch (UnsupportedOperationException x) {
+            // Some NoSQL databases lack the ability to count the total results
+            // and therefore cannot support a return type of Page
+            return;
+        }
+
+        assertEquals(PageRequest.TotalMode.INLINE, page.pageRequest().totalMode());
+        assertEquals(true, page.hasTotals());
+        assertEquals(22L, page.totalElements());
+        assertEquals(5L, page.totalPages());
+        assertEquals(true, page.totalElementsIsExact());
+        assertEquals(false, page.isCapped());
+        assertEquals(true, page.hasNext());
+        assertEquals(List.of(79L, 73L, 71L, 67L, 61L),
+                     page.stream().map(NaturalNumber::getId).collect(Collectors.toList()));
+
+        page = numbers.findByNumTypeAndFloorOfSquareRootLessThanEqual(NumberType.PRIME, 8L, first5.page(5));
+
+        assertEquals(22L, page.totalElements());
+        assertEquals(5L, page.totalPages());
+        assertEquals(true, page.totalElementsIsExact());
+        assertEquals(false, page.hasNext());
+        assertEquals(List.of(3L, 2L),
+                     page.stream().map(NaturalNumber::getId).collect(Collectors.toList()));
+
+        Page<NaturalNumber> counted = numbers.findByNumTypeAndFloorOfSquareRootLessThanEqual(NumberType.PRIME, 8L,
+                first5.withTotal().page(3));
+
+        assertEquals(counted.totalElements(), page.totalElements());
+        assertEquals(counted.totalPages(), page.totalPages());
+    }
+
     @Assertion(id = "133",
                strategy = "Request the first CursoredPage of 8 results, expecting to find all 8, " +
                           "then request the next CursoredPage and the CursoredPage after that, " +
@@ -882,6 +1037,74 @@ public class EntityTests {
                    .reduce("", String::concat));
     }
 
+    @Assertion(id = "133",
+               strategy = "Request the first Page of 10 results with a total that is capped at 20, " +
+                          "where 43 results are available. Verify that the total is reported as capped " +
+                          "and not exact. Then request a total that is capped at 50 and verify that " +
+                          "the total is exact.")
+    public void testFirstPageOf10WithCappedTotal() {
+        PageRequest<AsciiCharacter> first10 = Order.by(_AsciiCharacter.numericValue.asc()).pageSize(10);
+        Page<AsciiCharacter> page;
+        try {
+            page = characters.findByNumericValueBetween(48, 90, first10.withCappedTotal(20)); // '0' to 'Z'
+        } catch (UnsupportedOperationException x) {
+            // Some NoSQL databases lack the ability to count the total results
+            // and therefore cannot support a return type of Page
+            return;
+        }
+
+        assertEquals(PageRequest.TotalMode.CAPPED, page.pageRequest().totalMode());
+        assertEquals(10, page.numberOfElements());
+        assertEquals(true, page.hasTotals());
+        assertEquals(20L, page.totalElements());
+        assertEquals(true, page.isCapped());
+        assertEquals(false, page.totalElementsIsExact());
+        assertEquals(true, page.hasNext());
+
+        assertEquals("30:0;31:1;32:2;33:3;34:4;35:5;36:6;37:7;38:8;39:9;", // '0' to '9'
+        page.stream()
+                   .map(c -> c.getHexadecimal() + ':' + c.getThisCharacter() + ';')
+                   .reduce("", String::concat));
+
+        page = characters.findByNumericValueBetween(48, 90, first10.withCappedTotal(50));
+
+        assertEquals(43L, page.totalElements());
+        assertEquals(5L, page.totalPages());
+        assertEquals(false, page.isCapped());
+        assertEquals(true, page.totalElementsIsExact());
+    }
+
+    @Assertion(id = "133",
+               strategy = "Request the first Page of 10 results with an estimated total. " +
+                          "Verify that totals are available, that the total is not reported as exact, " +
+                          "and that the page content is unaffected by the estimate.")
+    public void testFirstPageOf10WithEstimatedTotal() {
+        PageRequest<AsciiCharacter> first10 = Order.by(_AsciiCharacter.numericValue.asc())
+                .pageSize(10)
+                .withEstimatedTotal();
+        Page<AsciiCharacter> page;
+        try {
+            page = characters.findByNumericValueBetween(48, 90, first10); // '0' to 'Z'
+        } catch (UnsupportedOperationException x) {
+            // Some NoSQL databases lack the ability to count the total results
+            // and therefore cannot support a return type of Page
+            return;
+        }
+
+        assertEquals(PageRequest.TotalMode.ESTIMATED, page.pageRequest().totalMode());
+        assertEquals(10, page.numberOfElements());
+        assertEquals(true, page.hasTotals());
+        assertTrue(page.totalElements() >= 0, "Estimated total must not be negative: " + page.totalElements());
+        assertEquals(false, page.isCapped());
+        assertEquals(false, page.totalElementsIsExact());
+        assertEquals(true, page.hasNext());
+
+        assertEquals("30:0;31:1;32:2;33:3;34:4;35:5;36:6;37:7;38:8;39:9;", // '0' to '9'
+        page.stream()
+                   .map(c -> c.getHexadecimal() + ':' + c.getThisCharacter() + ';')
+                   .reduce("", String::concat));
+    }
+
     @Assertion(id = "133", strategy = "Request the first Slice of 5 results, expecting to find all 5.")
     public void testFirstSliceOf5() {
         PageRequest<NaturalNumber> first5 = PageRequest.of(NaturalNumber.class).size(5).sortBy(Sort.desc("id")).withoutTotal();
@@ -1163,6 +1386,69 @@ public class EntityTests {
         assertEquals(0, slice.numberOfElements());
     }
 
+    @Assertion(id = "133",
+               strategy = "Request a CursoredPage after a keyset cursor that is obtained from Cursor.forLong, " +
+                          "expecting to find the next 6 results. Then request the CursoredPage before " +
+                          "a keyset cursor that is obtained from Cursor.forLong, expecting to find the previous 6 results.")
+    public void testCursoredPageWithoutTotalFromLongCursor() {
+        PageRequest<NaturalNumber> after54 = PageRequest.of(NaturalNumber.class).size(6).withoutTotal()
+                        .afterKeysetCursor(PageRequest.Cursor.forLong(54L));
+        CursoredPage<NaturalNumber> slice;
+
+        try {
+            slice = numbers.findByFloorOfSquareRootOrderByIdAsc(7L, after54);
+        } catch (MappingException x) {
+            // Test passes: Jakarta Data providers must raise MappingException when the database
+            // is not capable of keyset pagination.
+            return;
+        }
+
+        assertEquals(Arrays.toString(new Long[] { 55L, 56L, 57L, 58L, 59L, 60L }),
+                     Arrays.toString(slice.stream().map(number -> number.getId()).toArray()));
+
+        PageRequest<NaturalNumber> before55 = PageRequest.of(NaturalNumber.class).size(6).withoutTotal()
+                        .beforeKeysetCursor(PageRequest.Cursor.forLong(55L));
+
+        try {
+            slice = numbers.findByFloorOfSquareRootOrderByIdAsc(7L, before55);
+        } catch (MappingException x) {
+            // Test passes: Jakarta Data providers must raise MappingException when the database
+            // is not capable of keyset pagination.
+            return;
+        }
+
+        assertEquals(Arrays.toString(new Long[] { 49L, 50L, 51L, 52L, 53L, 54L }),
+                     Arrays.toString(slice.stream().map(number -> number.getId()).toArray()));
+    }
+
+    @Assertion(id = "133",
+               strategy = "Request the first CursoredPage of 4 results, then use CursoredPage.streamAll " +
+                          "with prefetching of 2 pages to stream the results of all pages, " +
+                          "expecting to find all results in order.")
+    public void testCursoredPageStreamAllWithPrefetch() {
+        PageRequest<NaturalNumber> first4 = PageRequest.of(NaturalNumber.class).size(4).withoutTotal();
+        CursoredPage<NaturalNumber> page1;
+
+        try {
+            page1 = numbers.findByFloorOfSquareRootOrderByIdAsc(7L, first4);
+        } catch (MappingException x) {
+            // Test passes: Jakarta Data providers must raise MappingException when the database
+            // is not capable of keyset pagination.
+            return;
+        }
+
+        // Pages are fetched on the calling thread so that the repository is
+        // always invoked in the same context as the test.
+        List<Long> ids;
+        try (Stream<NaturalNumber> all = CursoredPage.streamAll(page1,
+                pageRequest -> numbers.findByFloorOfSquareRootOrderByIdAsc(7L, pageRequest), 2, Runnable::run)) {
+            ids = all.map(NaturalNumber::getId).collect(Collectors.toList());
+        }
+
+        assertEquals(List.of(49L, 50L, 51L, 52L, 53L, 54L, 55L, 56L, 57L, 58L, 59L, 60L, 61L, 62L, 63L),
+                     ids);
+    }
+
     @Assertion(id = "133", strategy = "Use a repository method countByIdLessThan confirming the correct count is returned.")
     public void testLessThanWithCount() {
         assertEquals(91L, positives.countByIdLessThan(92L));
@@ -1357,6 +1643,51 @@ public class EntityTests {
         assertEquals(false, customRepo.existsByIdIn(Set.of(-10L, -12L, -14L)));
     }
 
+    @Assertion(id = "133", strategy = "Use a repository Find method with Select that returns a primitive array of the selected attribute.")
+    public void testPrimitiveArraysOfSelectedAttribute() {
+        long[] largestComposites = numbers.ids(NumberType.COMPOSITE, Limit.of(5));
+        assertEquals(List.of(100L, 99L, 98L, 96L, 95L),
+                     LongStream.of(largestComposites).boxed().collect(Collectors.toList()));
+
+        int[] lastControlChars = characters.numericValues(true, Limit.of(3));
+        assertEquals(List.of(127, 31, 30),
+                     IntStream.of(lastControlChars).boxed().collect(Collectors.toList()));
+    }
+
+    @Assertion(id = "133", strategy = "Use a repository Find method with Select that returns a primitive stream of the selected attribute.")
+    public void testPrimitiveStreamsOfSelectedAttribute() {
+        try (LongStream primes = numbers.ids(NumberType.PRIME)) {
+            assertEquals(List.of(2L, 3L, 5L, 7L, 11L, 13L, 17L, 19L, 23L, 29L, 31L, 37L, 41L,
+                                 43L, 47L, 53L, 59L, 61L, 67L, 71L, 73L, 79L, 83L, 89L, 97L),
+                         primes.boxed().collect(Collectors.toList()));
+        }
+
+        try (IntStream controlChars = characters.numericValues(true)) {
+            int[] values = controlChars.toArray();
+            assertEquals(32, values.length);
+            assertEquals(1, values[0]);
+            assertEquals(31, values[30]);
+            assertEquals(127, values[31]);
+        }
+    }
+
+    @Assertion(id = "133", strategy = "Use repository methods that return records which are projections of a subset of entity attributes.")
+    public void testRecordProjections() {
+        assertEquals(List.of(new PositiveIntegers.NumberSummary(9L, NumberType.COMPOSITE),
+                             new PositiveIntegers.NumberSummary(11L, NumberType.PRIME),
+                             new PositiveIntegers.NumberSummary(13L, NumberType.PRIME),
+                             new PositiveIntegers.NumberSummary(15L, NumberType.COMPOSITE)),
+                     positives.summarize(true, 3L));
+
+        assertEquals(List.of(new AsciiCharacters.HexCode('A', "41"),
+                             new AsciiCharacters.HexCode('B', "42"),
+                             new AsciiCharacters.HexCode('C', "43"),
+                             new AsciiCharacters.HexCode('D', "44"),
+                             new AsciiCharacters.HexCode('E', "45"),
+                             new AsciiCharacters.HexCode('F', "46")),
+                     characters.findByNumericValueBetweenOrderByNumericValueAsc(65, 70));
+    }
+
     @Assertion(id = "133", strategy = "Use a repository method that returns a single entity value where a single result is found.")
     public void testSingleEntity() {
         AsciiCharacter ch = characters.findByHexadecimalIgnoreCase("2B");
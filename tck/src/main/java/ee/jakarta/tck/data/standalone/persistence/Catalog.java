@@ -15,20 +15,29 @@
  */
 package ee.jakarta.tck.data.standalone.persistence;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import jakarta.data.BatchResult;
 import jakarta.data.Order;
+import jakarta.data.repository.Aggregate;
+import jakarta.data.repository.Assign;
+import jakarta.data.repository.By;
+import jakarta.data.repository.ChunkSize;
 import jakarta.data.repository.DataRepository;
 import jakarta.data.repository.Delete;
 import jakarta.data.repository.Find;
+import jakarta.data.repository.GroupBy;
 import jakarta.data.repository.Insert;
 import jakarta.data.repository.OrderBy;
 import jakarta.data.repository.Param;
 import jakarta.data.repository.Query;
 import jakarta.data.repository.Repository;
 import jakarta.data.repository.Save;
+import jakarta.data.repository.Select;
 import jakarta.data.repository.Update;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
@@ -37,21 +46,67 @@ import ee.jakarta.tck.data.standalone.persistence.Product.Department;
 @Repository
 public interface Catalog extends DataRepository<Product, String> {
 
+    /**
+     * Aggregate values that are computed for each group of products with the same name.
+     */
+    record NamedPrices(String name,
+                       @Select(aggregate = Aggregate.COUNT) long count,
+                       @Select(value = "price", aggregate = Aggregate.AVG) double averagePrice) {
+    }
+
     @Insert
     Product add(Product product);
 
     @Insert
     Product[] addMultiple(Product... products);
 
+    @Insert
+    BatchResult<Product> addAll(List<Product> products);
+
+    @Insert
+    @ChunkSize(3)
+    long addAll(Stream<Product> products);
+
     @Find
     Optional<Product> get(String productNum);
 
+    @Find
+    @Select(value = "price", aggregate = Aggregate.AVG)
+    double averagePrice();
+
+    @Find
+    @Select(value = "price", aggregate = Aggregate.MAX)
+    @GroupBy("name")
+    Map<String, Double> highestPricesByName();
+
+    @Find
+    @Select(value = "price", aggregate = Aggregate.MIN)
+    Optional<Double> lowestPrice();
+
+    @Find
+    @GroupBy("name")
+    @OrderBy("name")
+    List<NamedPrices> pricesByName();
+
+    @Find
+    @Select(value = "price", aggregate = Aggregate.SUM)
+    double totalPrice();
+
     @Update
     Product modify(Product product);
 
     @Update
     Product[] modifyMultiple(Product... products);
 
+    @Update
+    BatchResult<Product> modifyAll(List<Product> products);
+
+    @Update
+    boolean reprice(@By("productNum") String productNum, @Assign("price") Double price);
+
+    @Update
+    long rename(@By("name") String oldName, @Assign("name") String newName);
+
     @Delete
     boolean remove(Product product);
 
@@ -61,6 +116,10 @@ public interface Catalog extends DataRepository<Product, String> {
     @Save
     void save(Product product);
 
+    @Save
+    @ChunkSize(2)
+    int saveAll(Iterator<Product> products);
+
     void deleteById(String productNum);
 
     long deleteByProductNumLike(String pattern);
@@ -86,6 +145,10 @@ public interface Catalog extends DataRepository<Product, String> {
     @OrderBy(value = "price", descending = true)
     Stream<Product> findByPriceNotNullAndPriceLessThanEqual(double maxPrice);
 
+    @ChunkSize(2)
+    @OrderBy("name")
+    Stream<List<Product>> findByPriceLessThanEqual(double maxPrice);
+
     List<Product> findByPriceNull();
 
     EntityManager getEntityManager();
@@ -23,9 +23,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.jboss.arquillian.container.test.api.Deployment;
@@ -38,6 +40,7 @@ import ee.jakarta.tck.data.framework.junit.anno.Persistence;
 import ee.jakarta.tck.data.framework.junit.anno.Standalone;
 import ee.jakarta.tck.data.standalone.persistence.Product.Department;
 
+import jakarta.data.BatchResult;
 import jakarta.data.Order;
 import jakarta.data.Sort;
 import jakarta.data.exceptions.EntityExistsException;
@@ -60,6 +63,107 @@ public class PersistenceEntityTests {
     @Inject
     Catalog catalog;
 
+    @Assertion(id = "133", strategy = "Use repository methods that compute aggregate values over all results and over groups of results.")
+    public void testAggregates() {
+        catalog.deleteByProductNumLike("TEST-PROD-%");
+
+        assertEquals(Optional.empty(), catalog.lowestPrice());
+        assertEquals(0.0, catalog.totalPrice(), 0.001);
+
+        catalog.save(Product.of("hammer", 8.59, "TEST-PROD-111", Department.TOOLS));
+        catalog.save(Product.of("hammer", 12.49, "TEST-PROD-112", Department.TOOLS));
+        catalog.save(Product.of("hammer", 23.99, "TEST-PROD-113", Department.TOOLS));
+        catalog.save(Product.of("level", 14.39, "TEST-PROD-114", Department.TOOLS));
+        catalog.save(Product.of("level", 6.49, "TEST-PROD-115", Department.TOOLS));
+        catalog.save(Product.of("pliers", 5.99, "TEST-PROD-116", Department.TOOLS));
+        catalog.save(Product.of("pliers", null, "TEST-PROD-117", Department.TOOLS));
+
+        assertEquals(71.94, catalog.totalPrice(), 0.001);
+        assertEquals(11.99, catalog.averagePrice(), 0.001);
+        assertEquals(5.99, catalog.lowestPrice().orElseThrow(), 0.001);
+
+        Map<String, Double> highest = catalog.highestPricesByName();
+        assertEquals(3, highest.size());
+        assertEquals(23.99, highest.get("hammer"), 0.001);
+        assertEquals(14.39, highest.get("level"), 0.001);
+        assertEquals(5.99, highest.get("pliers"), 0.001);
+
+        List<Catalog.NamedPrices> prices = catalog.pricesByName();
+        assertEquals(List.of("hammer", "level", "pliers"),
+                     prices.stream().map(Catalog.NamedPrices::name).collect(Collectors.toList()));
+        assertEquals(List.of(3L, 2L, 2L),
+                     prices.stream().map(Catalog.NamedPrices::count).collect(Collectors.toList()));
+        assertEquals(15.023, prices.get(0).averagePrice(), 0.001);
+        assertEquals(10.44, prices.get(1).averagePrice(), 0.001);
+        assertEquals(5.99, prices.get(2).averagePrice(), 0.001);
+
+        assertEquals(7L, catalog.deleteByProductNumLike("TEST-PROD-%"));
+    }
+
+    @Assertion(id = "133", strategy = "Use repository Insert and Update methods that report the outcome of each entity in a BatchResult.")
+    public void testBatchResult() {
+        catalog.deleteByProductNumLike("TEST-PROD-%");
+
+        catalog.add(Product.of("drill", 89.99, "TEST-PROD-132", Department.TOOLS));
+
+        List<Product> received = List.of(Product.of("saw", 19.99, "TEST-PROD-131", Department.TOOLS),
+                                         Product.of("drill bits", 12.49, "TEST-PROD-132", Department.TOOLS),
+                                         Product.of("sander", 64.99, "TEST-PROD-133", Department.TOOLS));
+
+        BatchResult<Product> inserted = catalog.addAll(received);
+
+        assertEquals(3, inserted.size());
+        assertEquals(false, inserted.isSuccessful());
+        assertEquals(List.of(1), inserted.failedIndexes());
+        assertEquals(true, inserted.failure(1).orElseThrow() instanceof EntityExistsException);
+        assertEquals(List.of("saw", "sander"),
+                     inserted.succeeded().stream().map(Product::getName).collect(Collectors.toList()));
+        assertEquals(List.of("TEST-PROD-132"),
+                     inserted.failed(received).stream().map(Product::getProductNum).collect(Collectors.toList()));
+        assertEquals("drill", catalog.get("TEST-PROD-132").orElseThrow().getName());
+
+        Product saw = inserted.entity(0).orElseThrow();
+        saw.setPrice(17.99);
+        Product sander = inserted.entity(2).orElseThrow();
+        sander.setPrice(59.99);
+        BatchResult<Product> updated = catalog.modifyAll(List.of(saw,
+                                                                 Product.of("planer", 139.99, "TEST-PROD-134", Department.TOOLS),
+                                                                 sander));
+
+        assertEquals(List.of(1), updated.failedIndexes());
+        assertEquals(true, updated.failure(1).orElseThrow() instanceof OptimisticLockingFailureException);
+        assertEquals(17.99, catalog.get("TEST-PROD-131").orElseThrow().getPrice(), 0.001);
+        assertEquals(59.99, catalog.get("TEST-PROD-133").orElseThrow().getPrice(), 0.001);
+        assertEquals(Optional.empty(), catalog.get("TEST-PROD-134"));
+
+        assertEquals(3L, catalog.deleteByProductNumLike("TEST-PROD-%"));
+    }
+
+    @Assertion(id = "133", strategy = "Use a repository method with the ChunkSize annotation that returns a stream of chunks of results.")
+    public void testChunkedStream() {
+        catalog.deleteByProductNumLike("TEST-PROD-%");
+
+        catalog.save(Product.of("carrots", 1.29, "TEST-PROD-101", Department.GROCERY));
+        catalog.save(Product.of("apples", 2.49, "TEST-PROD-102", Department.GROCERY));
+        catalog.save(Product.of("eggs", 3.19, "TEST-PROD-103", Department.GROCERY));
+        catalog.save(Product.of("bread", 2.99, "TEST-PROD-104", Department.GROCERY));
+        catalog.save(Product.of("figs", 5.49, "TEST-PROD-105", Department.GROCERY));
+        catalog.save(Product.of("dates", 4.79, "TEST-PROD-106", Department.GROCERY));
+
+        List<List<String>> chunks;
+        try (Stream<List<Product>> found = catalog.findByPriceLessThanEqual(5.00)) {
+            chunks = found.map(chunk -> chunk.stream().map(Product::getName).collect(Collectors.toList()))
+                          .collect(Collectors.toList());
+        }
+
+        assertEquals(List.of(List.of("apples", "bread"),
+                             List.of("carrots", "dates"),
+                             List.of("eggs")),
+                     chunks);
+
+        assertEquals(6L, catalog.deleteByProductNumLike("TEST-PROD-%"));
+    }
+
     @Assertion(id = "133", strategy = "Use a repository method with Contains to query for a value with a collection attribute.")
     public void testContainsInCollection() {
         catalog.deleteByProductNumLike("TEST-PROD-%");
@@ -137,6 +241,31 @@ public class PersistenceEntityTests {
         assertEquals(5L, catalog.deleteByProductNumLike("TEST-PROD-%"));
     }
 
+    @Assertion(id = "133", strategy = "Use repository Insert and Save methods that consume a Stream or Iterator of entities in chunks.")
+    public void testInsertAndSaveInChunks() {
+        catalog.deleteByProductNumLike("TEST-PROD-%");
+
+        long inserted = catalog.addAll(IntStream.rangeClosed(141, 147)
+                .mapToObj(i -> Product.of("widget " + i, i / 10.0, "TEST-PROD-" + i, Department.OFFICE)));
+
+        assertEquals(7L, inserted);
+        assertEquals(7, catalog.findByProductNumLike("TEST-PROD-14%").size());
+
+        Product widget = catalog.get("TEST-PROD-143").orElseThrow();
+        widget.setPrice(1.99);
+        Iterator<Product> changes = List.of(widget,
+                                            Product.of("widget 148", 14.8, "TEST-PROD-148", Department.OFFICE),
+                                            Product.of("widget 149", 14.9, "TEST-PROD-149", Department.OFFICE))
+                                        .iterator();
+
+        assertEquals(3, catalog.saveAll(changes));
+        assertEquals(false, changes.hasNext());
+        assertEquals(1.99, catalog.get("TEST-PROD-143").orElseThrow().getPrice(), 0.001);
+        assertEquals(14.9, catalog.get("TEST-PROD-149").orElseThrow().getPrice(), 0.001);
+
+        assertEquals(9L, catalog.deleteByProductNumLike("TEST-PROD-%"));
+    }
+
     @Assertion(id = "133", strategy = "Attempt to insert an entity that already exists in the database and expect EntityExistsException.")
     public void testInsertEntityThatAlreadyExists() {
         catalog.deleteByProductNumLike("TEST-PROD-%");
@@ -282,6 +411,38 @@ public class PersistenceEntityTests {
         assertEquals(4L, catalog.deleteByProductNumLike("TEST-PROD-%"));
     }
 
+    @Assertion(id = "133", strategy = "Use repository Update methods with Assign parameters to update only the assigned attributes.")
+    public void testPartialUpdate() {
+        catalog.deleteByProductNumLike("TEST-PROD-%");
+
+        catalog.save(Product.of("stool", 24.99, "TEST-PROD-121", Department.FURNITURE));
+        catalog.save(Product.of("stool", 29.99, "TEST-PROD-122", Department.FURNITURE, Department.OFFICE));
+        catalog.save(Product.of("bench", 89.99, "TEST-PROD-123", Department.FURNITURE, Department.GARDEN));
+
+        Product bench = catalog.get("TEST-PROD-123").orElseThrow();
+        long initialVersion = bench.getVersionNum();
+
+        assertEquals(true, catalog.reprice("TEST-PROD-123", 79.99));
+        assertEquals(false, catalog.reprice("TEST-PROD-120", 9.99));
+
+        bench = catalog.get("TEST-PROD-123").orElseThrow();
+        assertEquals(79.99, bench.getPrice(), 0.001);
+        assertEquals("bench", bench.getName());
+        assertEquals(Set.of(Department.FURNITURE, Department.GARDEN), bench.getDepartments());
+        assertNotEquals(initialVersion, bench.getVersionNum());
+
+        assertEquals(2L, catalog.rename("stool", "step stool"));
+        assertEquals(0L, catalog.rename("stool", "tall stool"));
+
+        Product stool = catalog.get("TEST-PROD-122").orElseThrow();
+        assertEquals("step stool", stool.getName());
+        assertEquals(29.99, stool.getPrice(), 0.001);
+        assertEquals(Set.of(Department.FURNITURE, Department.OFFICE), stool.getDepartments());
+        assertEquals("step stool", catalog.get("TEST-PROD-121").orElseThrow().getName());
+
+        assertEquals(3L, catalog.deleteByProductNumLike("TEST-PROD-%"));
+    }
+
     @Assertion(id = "133", strategy = "Use a repository method that is annotated with Query and includes JPQL with named parameters.")
     public void testQueryWithNamedParameters() {
         catalog.deleteByProductNumLike("TEST-PROD-%");